@@ -0,0 +1,44 @@
+package com.project.trainingdiary.component;
+
+import com.project.trainingdiary.entity.BlacklistedTokenEntity;
+import com.project.trainingdiary.repository.BlacklistRepository;
+import com.project.trainingdiary.repository.RedisTokenRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * blacklisted_token 테이블에 남아 있는 토큰을 Redis 블랙리스트로 옮김
+ * <p>
+ * 옮긴 행과 이미 만료된 행은 지우므로 여러 번 실행되어도 같은 결과가 됨. 테이블이 비면 아무 일도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistMigration {
+
+  private final BlacklistRepository blacklistRepository;
+  private final RedisTokenRepository redisTokenRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void migrate() {
+    LocalDateTime now = LocalDateTime.now();
+    int expired = blacklistRepository.deleteExpired(now);
+
+    List<BlacklistedTokenEntity> tokens = blacklistRepository.findByExpiryDateAfter(now);
+    tokens.forEach(
+        token -> redisTokenRepository.blacklist(token.getToken(), token.getExpiryDate())
+    );
+    blacklistRepository.deleteAllInBatch(tokens);
+
+    if (expired > 0 || !tokens.isEmpty()) {
+      log.info("블랙리스트 토큰 {}개를 Redis 로 옮기고, 만료된 {}개를 삭제했습니다.", tokens.size(), expired);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.project.trainingdiary.component;
+
+import com.project.trainingdiary.exception.workout.VideoProcessingBusyException;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ffmpeg, ffprobe 프로세스의 동시 실행 개수를 제한하는 스케줄러
+ * <p>
+ * 프로세스마다 사용할 스레드 수를 CPU 코어 수로부터 나눠서 배정하고, 대기열이 가득 차면 요청을 거절함.
+ * 대기열 확인과 자리 차지를 한 번의 원자적 연산으로 하므로 거절 여부는 execute 에서만 판단함
+ */
+@Slf4j
+@Component
+public class FfmpegProcessScheduler {
+
+  @Getter
+  private final int maxProcesses;
+  @Getter
+  private final int threadsPerProcess;
+  @Getter
+  private final int queueCapacity;
+
+  private final Semaphore permits;
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  public FfmpegProcessScheduler(
+      @Value("${video.ffmpeg.max-processes:0}") int maxProcesses,
+      @Value("${video.ffmpeg.queue-capacity:20}") int queueCapacity
+  ) {
+    int cores = Runtime.getRuntime().availableProcessors();
+    // 설정하지 않으면 코어의 절반만 인코딩에 사용해서 API 요청을 처리할 여유를 남김
+    this.maxProcesses = maxProcesses > 0 ? maxProcesses : Math.max(1, cores / 2);
+    this.threadsPerProcess = Math.max(1, cores / this.maxProcesses);
+    this.queueCapacity = queueCapacity;
+    this.permits = new Semaphore(this.maxProcesses, true);
+  }
+
+  /**
+   * 실행 가능한 자리가 날 때까지 기다렸다가 배정된 스레드 수로 작업을 실행
+   */
+  public <T> T execute(ProcessTask<T> task) throws IOException, InterruptedException {
+    if (waiting.incrementAndGet() > queueCapacity) {
+      waiting.decrementAndGet();
+      throw new VideoProcessingBusyException();
+    }
+
+    long startedAt = System.currentTimeMillis();
+    try {
+      permits.acquire();
+    } finally {
+      waiting.decrementAndGet();
+    }
+
+    try {
+      recordWait(System.currentTimeMillis() - startedAt);
+      return task.run(threadsPerProcess);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void recordWait(long waitMillis) {
+    log.debug("ffmpeg 대기 시간: {}ms, 대기열: {}, 실행 중: {}",
+        waitMillis, waiting.get(), maxProcesses - permits.availablePermits());
+  }
+
+  @FunctionalInterface
+  public interface ProcessTask<T> {
+
+    T run(int threads) throws IOException, InterruptedException;
+  }
+}
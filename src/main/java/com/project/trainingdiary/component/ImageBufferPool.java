@@ -0,0 +1,36 @@
+package com.project.trainingdiary.component;
+
+import com.project.trainingdiary.util.PooledByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 인코딩 결과를 담는 버퍼를 재사용하기 위한 풀
+ * <p>
+ * 업로드가 몰릴 때 요청마다 큰 바이트 배열을 새로 만들고 버리는 일을 줄여서 GC 부담을 낮춤
+ */
+@Component
+public class ImageBufferPool {
+
+  private static final int MAX_POOLED_BUFFERS = 32;
+  private static final int INITIAL_CAPACITY = 256 * 1024;
+  // 이보다 커진 버퍼는 풀에 돌려놓지 않고 버려서 메모리를 계속 점유하지 않도록 함
+  private static final int MAX_RETAINED_CAPACITY = 4 * 1024 * 1024;
+
+  private final BlockingQueue<PooledByteArrayOutputStream> buffers =
+      new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+  public PooledByteArrayOutputStream acquire() {
+    PooledByteArrayOutputStream buffer = buffers.poll();
+    return buffer != null ? buffer : new PooledByteArrayOutputStream(INITIAL_CAPACITY);
+  }
+
+  public void release(PooledByteArrayOutputStream buffer) {
+    if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+      return;
+    }
+    buffer.reset();
+    buffers.offer(buffer);
+  }
+}
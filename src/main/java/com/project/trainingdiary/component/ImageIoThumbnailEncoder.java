@@ -0,0 +1,98 @@
+package com.project.trainingdiary.component;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ImageIO writer 를 사용하는 썸네일 인코더
+ * <p>
+ * 기본 형식은 JPEG. webp, avif 등을 설정했는데 해당 ImageIO 플러그인이 classpath 에 없으면 JPEG 으로 대신 인코딩함
+ */
+@Slf4j
+@Component
+public class ImageIoThumbnailEncoder implements ThumbnailEncoder {
+
+  private static final String FALLBACK_FORMAT = "jpeg";
+
+  @Getter
+  private final String formatName;
+  private final float quality;
+
+  public ImageIoThumbnailEncoder(
+      @Value("${image.thumbnail.format:jpeg}") String format,
+      @Value("${image.thumbnail.quality:0.8}") float quality
+  ) {
+    String requestedFormat = format.toLowerCase();
+    if (ImageIO.getImageWritersByFormatName(requestedFormat).hasNext()) {
+      this.formatName = requestedFormat;
+    } else {
+      log.warn("{} 썸네일 인코더를 찾을 수 없어 {} 으로 대체합니다.", requestedFormat, FALLBACK_FORMAT);
+      this.formatName = FALLBACK_FORMAT;
+    }
+    this.quality = quality;
+  }
+
+  @Override
+  public String getExtension() {
+    return FALLBACK_FORMAT.equals(formatName) ? "jpg" : formatName;
+  }
+
+  @Override
+  public String getContentType() {
+    return "image/" + formatName;
+  }
+
+  @Override
+  public void encode(BufferedImage image, OutputStream outputStream) throws IOException {
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+    ImageWriter writer = writers.next();
+
+    // JPEG 은 알파 채널을 지원하지 않으므로 흰 배경 위에 그려서 RGB 로 변환
+    BufferedImage target = FALLBACK_FORMAT.equals(formatName) && image.getColorModel().hasAlpha()
+        ? toRgb(image) : image;
+
+    try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+      writer.setOutput(imageOutputStream);
+
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      if (param.canWriteCompressed()) {
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        String[] compressionTypes = param.getCompressionTypes();
+        if (param.getCompressionType() == null && compressionTypes != null
+            && compressionTypes.length > 0) {
+          param.setCompressionType(compressionTypes[0]);
+        }
+        param.setCompressionQuality(quality);
+      }
+
+      writer.write(null, new IIOImage(target, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  private BufferedImage toRgb(BufferedImage image) {
+    BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(),
+        BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = rgbImage.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics.drawImage(image, 0, 0, null);
+    graphics.dispose();
+    return rgbImage;
+  }
+}
@@ -0,0 +1,131 @@
+package com.project.trainingdiary.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.ScheduleTemplateEntity;
+import com.project.trainingdiary.model.TrainerAvailability;
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.project.trainingdiary.repository.schedule.ScheduleTemplateRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트레이너별 예약 가능한(OPEN) 일정 시간을 비트셋으로 들고 있는 인덱스
+ * <p>
+ * 처음 조회될 때 DB에서 오늘부터 WINDOW_DAYS 일 동안의 OPEN 일정과 아직 생성되지 않은 반복 일정으로 채우고, 이후에는 일정 상태가 바뀔 때마다 커밋 후에 비트를 갱신함.
+ * 캐시가 하루 뒤 만료되면서 다시 채워지므로 범위가 날짜에 맞춰 이동함
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleAvailabilityIndex {
+
+  private static final int WINDOW_DAYS = 180;
+
+  private final ScheduleRepository scheduleRepository;
+  private final ScheduleTemplateRepository scheduleTemplateRepository;
+
+  private final Cache<Long, TrainerAvailability> trainerAvailabilityCache;
+
+  /**
+   * from 이후에 시작하는 트레이너의 OPEN 일정 시간을 가까운 순으로 최대 count개 찾음
+   */
+  public List<LocalDateTime> findNextOpenSlots(long trainerId, LocalDateTime from, int count) {
+    return trainerAvailabilityCache.get(trainerId, this::load).findNext(from, count);
+  }
+
+  /**
+   * 일정의 현재 상태를 인덱스에 반영함. 트랜잭션 안에서 호출되면 커밋된 이후에 반영
+   */
+  public void update(ScheduleEntity schedule) {
+    Long trainerId = schedule.getTrainer().getId();
+    LocalDateTime startAt = schedule.getStartAt();
+    boolean open = schedule.getScheduleStatusType() == ScheduleStatusType.OPEN;
+    afterCommit(() -> set(trainerId, startAt, open));
+  }
+
+  /**
+   * 삭제된 일정을 인덱스에서 뺌
+   */
+  public void remove(ScheduleEntity schedule) {
+    Long trainerId = schedule.getTrainer().getId();
+    LocalDateTime startAt = schedule.getStartAt();
+    afterCommit(() -> set(trainerId, startAt, false));
+  }
+
+  /**
+   * 반복 일정이 추가된 경우처럼 여러 시간이 바뀌면 트레이너의 인덱스를 버리고 다음 조회 때 다시 채움
+   */
+  public void invalidate(Long trainerId) {
+    afterCommit(() -> trainerAvailabilityCache.invalidate(trainerId));
+  }
+
+  private TrainerAvailability load(Long trainerId) {
+    LocalDate today = LocalDate.now();
+    TrainerAvailability availability = new TrainerAvailability(today, WINDOW_DAYS);
+    scheduleRepository.findOpenStartTimes(
+        trainerId,
+        today.atStartOfDay(),
+        today.plusDays(WINDOW_DAYS).atStartOfDay()
+    ).forEach(startAt -> availability.set(startAt, true));
+    loadTemplates(trainerId, today, availability);
+    return availability;
+  }
+
+  /**
+   * 아직 일정이 생성되지 않은 반복 일정의 시간도 예약 가능으로 표시함. 같은 시간에 이미 일정이 있으면 그 일정의 상태를 따름
+   */
+  private void loadTemplates(Long trainerId, LocalDate today, TrainerAvailability availability) {
+    List<ScheduleTemplateEntity> templates = scheduleTemplateRepository.findPending(trainerId);
+    if (templates.isEmpty()) {
+      return;
+    }
+
+    LocalDate until = today.plusDays(WINDOW_DAYS - 1);
+    Set<LocalDateTime> existings = scheduleRepository.findScheduleDatesByDates(
+        trainerId,
+        today.atStartOfDay(),
+        until.atTime(LocalTime.MAX)
+    );
+    templates.stream()
+        .flatMap(template -> template.getPendingStartTimes(today, until).stream())
+        .filter(startAt -> !existings.contains(startAt))
+        .forEach(startAt -> availability.set(startAt, true));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * 아직 채워지지 않은 트레이너는 다음 조회 때 DB에서 채우므로 건너뜀
+   * <p>
+   * 채우는 중인 트레이너는 커밋 전의 데이터를 읽었을 수 있으므로, 채우기가 끝날 때까지 기다렸다가 반영함.
+   * computeIfPresent 는 잠금 없이 먼저 존재 여부를 확인해서 채우는 중인 항목을 건너뛰므로 compute 를 사용함
+   */
+  private void set(Long trainerId, LocalDateTime startAt, boolean open) {
+    trainerAvailabilityCache.asMap().compute(trainerId, (id, availability) -> {
+      if (availability != null) {
+        availability.set(startAt, open);
+      }
+      return availability;
+    });
+  }
+}
@@ -0,0 +1,256 @@
+package com.project.trainingdiary.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.model.CachedScheduleCalendar;
+import com.project.trainingdiary.model.ScheduleCalendarKey;
+import com.project.trainingdiary.model.ScheduleResponseDetail;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 일정 캘린더 조회 결과를 월 단위로 캐시함
+ * <p>
+ * 일정이 바뀌는 곳(열기/닫기/등록/신청/수락/거절/취소/PT 계약 변경)에서 커밋 이후에 해당 트레이너, 트레이니, 월이 바뀐 시각을 기록하고,
+ * 그보다 먼저 조회를 시작해서 채운 캐시는 사용하지 않음. 조회 도중 커밋된 변경이 있어도 이전 결과가 다시 캐시되지 않고, 비울 때 캐시 전체를 훑지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCalendarCache {
+
+  private static final LocalTime START_TIME = LocalTime.of(0, 0);
+  private static final LocalTime END_TIME = LocalTime.of(23, 59);
+
+  private final ScheduleRepository scheduleRepository;
+
+  private final Cache<ScheduleCalendarKey, CachedScheduleCalendar> scheduleCalendarCache;
+  // 트레이너 키는 (trainerId, null, month), 트레이니 키는 (null, traineeId, month). month 가 null 이면 모든 월
+  private final Cache<ScheduleCalendarKey, Long> scheduleCalendarChanges;
+
+  // 캐시 조회 시작과 일정 변경의 선후를 비교하기 위한 시각
+  private final AtomicLong clock = new AtomicLong();
+
+  /**
+   * 트레이너의 일정 목록 조회
+   */
+  public List<ScheduleResponseDto> getTrainerCalendar(
+      long trainerId,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    return getCalendar(
+        months(startDate, endDate).stream()
+            .map(month -> new ScheduleCalendarKey(trainerId, null, month))
+            .toList(),
+        (start, end) -> scheduleRepository.getScheduleListByTrainer(trainerId, start, end),
+        startDate,
+        endDate
+    );
+  }
+
+  /**
+   * 트레이니의 일정 목록 조회. currentTrainerId가 없는 경우에는 null이 들어올 수 있음
+   */
+  public List<ScheduleResponseDto> getTraineeCalendar(
+      Long currentTrainerId,
+      long traineeId,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    return getCalendar(
+        months(startDate, endDate).stream()
+            .map(month -> new ScheduleCalendarKey(currentTrainerId, traineeId, month))
+            .toList(),
+        (start, end) -> scheduleRepository.getScheduleListByTrainee(
+            currentTrainerId, traineeId, start, end
+        ),
+        startDate,
+        endDate
+    );
+  }
+
+  /**
+   * 일정이 바뀐 트레이너, 트레이니의 해당 월 캐시를 비움. 트랜잭션 안에서 호출되면 커밋된 이후에 비움
+   */
+  public void evict(Long trainerId, Long traineeId, LocalDateTime startAt) {
+    evictAfterCommit(changeKeys(trainerId, traineeId, YearMonth.from(startAt)));
+  }
+
+  /**
+   * 여러 일정이 한 번에 바뀐 경우 관련된 트레이너, 트레이니, 월의 캐시를 한 번에 비움
+   */
+  public void evict(List<ScheduleEntity> schedules) {
+    Set<ScheduleCalendarKey> keys = new HashSet<>();
+    for (ScheduleEntity schedule : schedules) {
+      keys.addAll(changeKeys(
+          schedule.getTrainer().getId(),
+          schedule.getPtContract() == null ? null : schedule.getPtContract().getTrainee().getId(),
+          YearMonth.from(schedule.getStartAt())
+      ));
+    }
+    evictAfterCommit(keys);
+  }
+
+  /**
+   * 트레이너, 트레이니와 관련된 모든 월의 캐시를 비움(PT 계약 변경처럼 범위를 특정하기 어려운 경우)
+   */
+  public void evictAll(Long trainerId, Long traineeId) {
+    evictAfterCommit(changeKeys(trainerId, traineeId, null));
+  }
+
+  private List<ScheduleResponseDto> getCalendar(
+      List<ScheduleCalendarKey> keys,
+      CalendarLoader loader,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    Map<ScheduleCalendarKey, List<ScheduleResponseDto>> calendars = new HashMap<>();
+    List<ScheduleCalendarKey> missing = new ArrayList<>();
+    for (ScheduleCalendarKey key : keys) {
+      CachedScheduleCalendar cached = scheduleCalendarCache.getIfPresent(key);
+      if (cached != null && isFresh(key, cached.getLoadedAt())) {
+        calendars.put(key, cached.getSchedules());
+      } else {
+        missing.add(key);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      // 조회를 시작하기 전의 시각을 같이 저장해서, 조회 도중 커밋된 변경이 있으면 다음 조회 때 다시 읽음
+      long loadedAt = clock.get();
+      // 캐시에 없는 월들은 한 번의 쿼리로 가져와서 월별로 나눠 저장
+      loadMonths(missing, loader).forEach((key, schedules) -> {
+        List<ScheduleResponseDto> cached = List.copyOf(schedules);
+        scheduleCalendarCache.put(key, new CachedScheduleCalendar(loadedAt, cached));
+        calendars.put(key, cached);
+      });
+    }
+
+    // 캐시에 저장한 일정이 호출한 쪽에서 바뀌지 않도록 복사해서 반환
+    List<ScheduleResponseDto> result = new ArrayList<>();
+    for (ScheduleCalendarKey key : keys) {
+      calendars.get(key).stream()
+          .filter(schedule -> !schedule.getStartDate().isBefore(startDate)
+              && !schedule.getStartDate().isAfter(endDate))
+          .map(ScheduleCalendarCache::copy)
+          .forEach(result::add);
+    }
+    return result;
+  }
+
+  private static ScheduleResponseDto copy(ScheduleResponseDto schedule) {
+    List<ScheduleResponseDetail> details = new ArrayList<>(schedule.getDetails().size());
+    schedule.getDetails().forEach(detail -> details.add(detail.toBuilder().build()));
+    return schedule.toBuilder().details(details).build();
+  }
+
+  private Map<ScheduleCalendarKey, List<ScheduleResponseDto>> loadMonths(
+      List<ScheduleCalendarKey> keys,
+      CalendarLoader loader
+  ) {
+    Map<YearMonth, ScheduleCalendarKey> keyByMonth = new HashMap<>();
+    keys.forEach(key -> keyByMonth.put(key.getMonth(), key));
+    YearMonth first = keyByMonth.keySet().stream().min(YearMonth::compareTo).orElseThrow();
+    YearMonth last = keyByMonth.keySet().stream().max(YearMonth::compareTo).orElseThrow();
+
+    Map<ScheduleCalendarKey, List<ScheduleResponseDto>> loaded = new HashMap<>();
+    keys.forEach(key -> loaded.put(key, new ArrayList<>()));
+
+    List<ScheduleResponseDto> schedules = loader.load(
+        LocalDateTime.of(first.atDay(1), START_TIME),
+        LocalDateTime.of(last.atEndOfMonth(), END_TIME)
+    );
+    for (ScheduleResponseDto schedule : schedules) {
+      // 사이에 낀 이미 캐시된 월은 버림
+      ScheduleCalendarKey key = keyByMonth.get(YearMonth.from(schedule.getStartDate()));
+      if (key != null) {
+        loaded.get(key).add(schedule);
+      }
+    }
+    return loaded;
+  }
+
+  private void evictAfterCommit(Collection<ScheduleCalendarKey> changeKeys) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      markChanged(changeKeys);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        markChanged(changeKeys);
+      }
+    });
+  }
+
+  private void markChanged(Collection<ScheduleCalendarKey> changeKeys) {
+    long changedAt = clock.incrementAndGet();
+    changeKeys.forEach(key -> scheduleCalendarChanges.put(key, changedAt));
+  }
+
+  /**
+   * 캐시를 채운 뒤로 캐시의 트레이너, 트레이니, 월에 변경이 없었는지 확인
+   * <p>
+   * 트레이너 본인의 캘린더, 그 트레이너와 연결된 트레이니들의 캘린더, 일정에 포함된 트레이니의 캘린더가 영향을 받음
+   */
+  private boolean isFresh(ScheduleCalendarKey key, long loadedAt) {
+    List<ScheduleCalendarKey> changeKeys = new ArrayList<>();
+    changeKeys.addAll(changeKeys(key.getTrainerId(), key.getTraineeId(), key.getMonth()));
+    changeKeys.addAll(changeKeys(key.getTrainerId(), key.getTraineeId(), null));
+    for (ScheduleCalendarKey changeKey : changeKeys) {
+      Long changedAt = scheduleCalendarChanges.getIfPresent(changeKey);
+      if (changedAt != null && changedAt > loadedAt) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<ScheduleCalendarKey> changeKeys(
+      Long trainerId,
+      Long traineeId,
+      YearMonth month
+  ) {
+    List<ScheduleCalendarKey> keys = new ArrayList<>(2);
+    if (trainerId != null) {
+      keys.add(new ScheduleCalendarKey(trainerId, null, month));
+    }
+    if (traineeId != null) {
+      keys.add(new ScheduleCalendarKey(null, traineeId, month));
+    }
+    return keys;
+  }
+
+  private static Collection<YearMonth> months(LocalDate startDate, LocalDate endDate) {
+    List<YearMonth> months = new ArrayList<>();
+    YearMonth last = YearMonth.from(endDate);
+    for (YearMonth month = YearMonth.from(startDate); !month.isAfter(last);
+        month = month.plusMonths(1)) {
+      months.add(month);
+    }
+    return months;
+  }
+
+  @FunctionalInterface
+  private interface CalendarLoader {
+
+    List<ScheduleResponseDto> load(LocalDateTime startDateTime, LocalDateTime endDateTime);
+  }
+}
@@ -0,0 +1,112 @@
+package com.project.trainingdiary.component;
+
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.ScheduleTemplateEntity;
+import com.project.trainingdiary.entity.TrainerEntity;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.project.trainingdiary.repository.schedule.ScheduleTemplateRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 반복 일정(schedule_template)으로부터 실제 일정(schedule)을 필요한 날짜까지만 생성함
+ * <p>
+ * 캘린더 조회는 잠금을 잡거나 일정을 생성하지 않도록, 반복 일정을 열 때와 매일 밤 정해진 기간 뒤까지 미리 생성해둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTemplateMaterializer {
+
+  // 반복 일정으로부터 미리 생성해두는 기간
+  private static final int UPCOMING_DAYS = 28;
+
+  private final ScheduleRepository scheduleRepository;
+  private final ScheduleTemplateRepository scheduleTemplateRepository;
+  private final ScheduleCalendarCache scheduleCalendarCache;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 매일 밤 반복 일정이 있는 트레이너마다 정해진 기간 뒤까지 일정을 생성함. 트레이너마다 따로 커밋함
+   */
+  @Scheduled(cron = "0 0 3 * * *")
+  public void materializeAllUpcoming() {
+    LocalDate today = LocalDate.now();
+    LocalDate until = today.plusDays(UPCOMING_DAYS);
+    List<Long> trainerIds = scheduleTemplateRepository.findPendingTrainerIds(until);
+
+    log.info("{}명의 트레이너의 반복 일정을 생성합니다.", trainerIds.size());
+
+    for (Long trainerId : trainerIds) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> create(trainerId, today, until));
+      } catch (DataIntegrityViolationException e) {
+        // 확인한 뒤에 같은 시간의 일정이 직접 열렸으므로 다음 실행 때 다시 생성함
+        log.warn("반복 일정을 생성하지 못했습니다. trainerId: {}", trainerId, e);
+      }
+    }
+  }
+
+  /**
+   * 반복 일정을 열었을 때 정해진 기간 뒤까지의 일정을 바로 생성함
+   */
+  @Transactional
+  public void materializeUpcoming(long trainerId, LocalDate today) {
+    create(trainerId, today, today.plusDays(UPCOMING_DAYS));
+  }
+
+  /**
+   * 트레이너의 반복 일정 중 until 까지 아직 생성되지 않은 일정을 OPEN 상태로 생성
+   * <p>
+   * 같은 시간에 이미 일정이 있다면(직접 열었거나 등록된 일정) 기존 일정을 그대로 둠
+   */
+  @Transactional
+  public void materialize(long trainerId, LocalDate until) {
+    create(trainerId, LocalDate.now(), until);
+  }
+
+  /**
+   * 지난 날짜의 일정은 만들지 않고, 생성한 일정의 캘린더 캐시는 커밋된 이후에 비움
+   */
+  private void create(long trainerId, LocalDate today, LocalDate until) {
+    List<ScheduleTemplateEntity> templates = scheduleTemplateRepository.findPendingForUpdate(
+        trainerId, until
+    );
+    if (templates.isEmpty()) {
+      return;
+    }
+
+    List<LocalDateTime> startTimes = templates.stream()
+        .flatMap(template -> template.materialize(today, until).stream())
+        .distinct()
+        .toList();
+    if (startTimes.isEmpty()) {
+      return;
+    }
+
+    Set<LocalDateTime> existings = scheduleRepository.findScheduleDatesByDates(
+        trainerId,
+        startTimes.stream().min(LocalDateTime::compareTo).orElseThrow(),
+        startTimes.stream().max(LocalDateTime::compareTo).orElseThrow()
+    );
+
+    TrainerEntity trainer = templates.get(0).getTrainer();
+    List<ScheduleEntity> schedules = startTimes.stream()
+        .filter(startTime -> !existings.contains(startTime))
+        .map(startTime -> ScheduleEntity.of(startTime, startTime.plusHours(1), trainer))
+        .toList();
+
+    // 이어지는 일정 조회 쿼리는 자동 flush 를 하지 않으므로 바로 반영함
+    scheduleRepository.saveAllAndFlush(schedules);
+    scheduleCalendarCache.evict(schedules);
+  }
+}
@@ -0,0 +1,66 @@
+package com.project.trainingdiary.component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 에서 시퀀스로 바꾼 테이블의 시퀀스를 기존 데이터의 최대 id 뒤로 옮김
+ * <p>
+ * ddl-auto 가 새로 만든 시퀀스는 1부터 시작하므로 이미 데이터가 있는 DB 에서는 기본 키가 겹침.
+ * EntityManagerFactory 가 스키마를 갱신한 뒤, 요청을 받기 전에 실행됨. 시퀀스가 이미 최대 id 보다 뒤에 있으면 그대로 둠.
+ * 시퀀스 문법이 같은 MariaDB(운영)와 H2(테스트)에서만 실행하고, 다른 DB 에서는 경고만 남김
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceMigration {
+
+  // next value for, alter sequence ... restart with 문법을 지원하는 DB
+  private static final Set<String> SUPPORTED_DATABASES = Set.of("MariaDB", "H2");
+
+  // 시퀀스 이름과 그 시퀀스로 id 를 만드는 테이블
+  private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+      "schedule_seq", "schedule",
+      "notification_seq", "notification",
+      "workout_seq", "workout",
+      "workout_media_seq", "workout_media"
+  );
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void migrate() {
+    String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+        connection.getMetaData().getDatabaseProductName());
+    if (!SUPPORTED_DATABASES.contains(database)) {
+      log.warn("{} 에서는 시퀀스를 옮기지 않습니다. 시퀀스를 직접 최대 id 뒤로 옮겨야 합니다.", database);
+      return;
+    }
+
+    SEQUENCE_TABLES.forEach(this::moveAfterMaxId);
+  }
+
+  /**
+   * 현재 값을 확인하려고 시퀀스를 한 번 증가시키므로 id 한 블록(allocationSize)을 건너뛸 수 있음
+   */
+  private void moveAfterMaxId(String sequence, String table) {
+    long maxId = jdbcTemplate.queryForObject(
+        "select coalesce(max(id), 0) from " + table, Long.class
+    );
+    long next = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+    if (next > maxId) {
+      return;
+    }
+
+    jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (maxId + 1));
+    log.info("{} 시퀀스를 {} 부터 시작하도록 옮겼습니다.", sequence, maxId + 1);
+  }
+}
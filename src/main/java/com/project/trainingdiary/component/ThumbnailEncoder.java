@@ -0,0 +1,22 @@
+package com.project.trainingdiary.component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 목록 화면에서 사용하는 썸네일을 인코딩하는 단계. 구현체를 바꾸면 썸네일 형식을 바꿀 수 있음
+ */
+public interface ThumbnailEncoder {
+
+  /**
+   * 저장할 썸네일 형식 이름 (예: webp, avif, jpeg)
+   */
+  String getFormatName();
+
+  String getExtension();
+
+  String getContentType();
+
+  void encode(BufferedImage image, OutputStream outputStream) throws IOException;
+}
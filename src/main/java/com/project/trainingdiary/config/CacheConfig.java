@@ -2,7 +2,16 @@ package com.project.trainingdiary.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.project.trainingdiary.entity.ImageAssetEntity;
+import com.project.trainingdiary.model.CachedScheduleCalendar;
+import com.project.trainingdiary.model.ParsedToken;
+import com.project.trainingdiary.model.ScheduleCalendarKey;
+import com.project.trainingdiary.model.TrainerAvailability;
 import com.project.trainingdiary.model.UserPrincipal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.concurrent.TimeUnit;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +19,10 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class CacheConfig {
 
+  private static final Duration MAX_VERIFIED_TOKEN_TTL = Duration.ofMinutes(10);
+  private static final Duration SCHEDULE_CALENDAR_TTL = Duration.ofMinutes(30);
+  private static final Duration TRAINER_AVAILABILITY_TTL = Duration.ofDays(1);
+
   @Bean
   public Cache<String, UserPrincipal> userCache() {
     return Caffeine.newBuilder()
@@ -17,4 +30,109 @@ public class CacheConfig {
         .maximumSize(1000)
         .build();
   }
-}
\ No newline at end of file
+
+  @Bean
+  public Cache<String, ImageAssetEntity> imageAssetCache() {
+    return Caffeine.newBuilder()
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .maximumSize(10000)
+        .build();
+  }
+
+  @Bean
+  public Cache<ScheduleCalendarKey, CachedScheduleCalendar> scheduleCalendarCache() {
+    return Caffeine.newBuilder()
+        .expireAfterWrite(SCHEDULE_CALENDAR_TTL)
+        .maximumSize(10000)
+        .build();
+  }
+
+  /**
+   * 트레이너/트레이니의 일정이 마지막으로 바뀐 시각. 이보다 먼저 읽은 캘린더 캐시는 사용하지 않음
+   * <p>
+   * 크기 제한으로 먼저 지워지면 오래된 캘린더가 다시 유효해지므로 크기 제한 없이, 캘린더 캐시보다 오래 유지함
+   */
+  @Bean
+  public Cache<ScheduleCalendarKey, Long> scheduleCalendarChanges() {
+    return Caffeine.newBuilder()
+        .expireAfterWrite(SCHEDULE_CALENDAR_TTL.multipliedBy(2))
+        .build();
+  }
+
+  @Bean
+  public Cache<Long, TrainerAvailability> trainerAvailabilityCache() {
+    return trainerAvailabilityCache(Ticker.systemTicker());
+  }
+
+  /**
+   * 트레이너별 예약 가능 시간 인덱스. 일정 상태를 반영해도 만료 시간이 늘어나지 않으므로, 채운 지 하루 뒤 만료되면서 범위가 날짜에 맞춰 이동함
+   */
+  public static Cache<Long, TrainerAvailability> trainerAvailabilityCache(Ticker ticker) {
+    return Caffeine.newBuilder()
+        .expireAfter(new Expiry<Long, TrainerAvailability>() {
+          @Override
+          public long expireAfterCreate(Long key, TrainerAvailability availability,
+              long currentTime) {
+            return TRAINER_AVAILABILITY_TTL.toNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(Long key, TrainerAvailability availability,
+              long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+
+          @Override
+          public long expireAfterRead(Long key, TrainerAvailability availability,
+              long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .maximumSize(10000)
+        .ticker(ticker)
+        .build();
+  }
+
+  @Bean
+  public Cache<String, ParsedToken> verifiedTokenCache() {
+    return verifiedTokenCache(Ticker.systemTicker());
+  }
+
+  /**
+   * 서명을 검증한 토큰. 토큰 문자열을 그대로 키로 사용하고, 토큰의 만료 시간이 지나면 함께 만료됨
+   */
+  public static Cache<String, ParsedToken> verifiedTokenCache(Ticker ticker) {
+    return Caffeine.newBuilder()
+        .expireAfter(new Expiry<String, ParsedToken>() {
+          @Override
+          public long expireAfterCreate(String key, ParsedToken token, long currentTime) {
+            return remainingNanos(token);
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, ParsedToken token, long currentTime,
+              long currentDuration) {
+            return remainingNanos(token);
+          }
+
+          @Override
+          public long expireAfterRead(String key, ParsedToken token, long currentTime,
+              long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .maximumSize(10000)
+        .ticker(ticker)
+        .build();
+  }
+
+  private static long remainingNanos(ParsedToken token) {
+    Duration remaining = Duration.between(LocalDateTime.now(), token.getExpiryDate());
+    if (remaining.isNegative()) {
+      return 0;
+    }
+    return remaining.compareTo(MAX_VERIFIED_TOKEN_TTL) < 0
+        ? remaining.toNanos()
+        : MAX_VERIFIED_TOKEN_TTL.toNanos();
+  }
+}
@@ -0,0 +1,43 @@
+package com.project.trainingdiary.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+  @Value("${image.upload.threads:16}")
+  private int uploadThreads;
+
+  /**
+   * 이미지 디코딩, 리사이즈, 인코딩처럼 CPU 를 사용하는 작업을 처리하는 풀. CPU 코어 수만큼의 스레드를 가짐
+   */
+  @Bean
+  public ThreadPoolTaskExecutor imageProcessExecutor() {
+    int cores = Runtime.getRuntime().availableProcessors();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(cores);
+    executor.setMaxPoolSize(cores);
+    executor.setThreadNamePrefix("image-process-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * 리사이즈된 이미지를 S3 에 업로드하는 풀. 대부분의 시간을 네트워크 대기로 보내므로 코어 수보다 많은 스레드를 가짐
+   */
+  @Bean
+  public ThreadPoolTaskExecutor imageUploadExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(uploadThreads);
+    executor.setMaxPoolSize(uploadThreads);
+    executor.setThreadNamePrefix("image-upload-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+}
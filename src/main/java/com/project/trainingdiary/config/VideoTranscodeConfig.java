@@ -0,0 +1,53 @@
+package com.project.trainingdiary.config;
+
+import com.project.trainingdiary.provider.S3MultipartUploader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class VideoTranscodeConfig {
+
+  @Value("${video.transcode.queue-capacity:20}")
+  private int queueCapacity;
+
+  @Value("${video.upload.part-threads:8}")
+  private int partUploadThreads;
+
+  /**
+   * 동영상 인코딩 작업을 처리하는 워커 풀. CPU 코어 수만큼의 스레드와 크기가 제한된 대기열을 가짐
+   */
+  @Bean
+  public ThreadPoolTaskExecutor videoTranscodeExecutor() {
+    int cores = Runtime.getRuntime().availableProcessors();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(cores);
+    executor.setMaxPoolSize(cores);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("video-transcode-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    return executor;
+  }
+
+  /**
+   * 인코딩 결과를 S3 에 멀티파트로 업로드할 때 파트 업로드를 병렬로 처리하는 풀
+   * <p>
+   * 인코딩 워커마다 올라가는 파트 수가 제한되므로 대기열도 그만큼으로 제한함
+   */
+  @Bean
+  public ThreadPoolTaskExecutor s3PartUploadExecutor() {
+    int cores = Runtime.getRuntime().availableProcessors();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(partUploadThreads);
+    executor.setMaxPoolSize(partUploadThreads);
+    executor.setQueueCapacity(cores * S3MultipartUploader.MAX_PARTS_IN_FLIGHT);
+    executor.setThreadNamePrefix("s3-part-upload-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    return executor;
+  }
+}
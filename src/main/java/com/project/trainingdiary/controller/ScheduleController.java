@@ -5,12 +5,14 @@ import com.project.trainingdiary.dto.request.schedule.ApplyScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CancelScheduleByTraineeRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CancelScheduleByTrainerRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CloseScheduleRequestDto;
+import com.project.trainingdiary.dto.request.schedule.OpenRecurringScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.OpenScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.RegisterScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.RejectScheduleRequestDto;
 import com.project.trainingdiary.dto.response.schedule.ApplyScheduleResponseDto;
 import com.project.trainingdiary.dto.response.schedule.CancelScheduleByTraineeResponseDto;
 import com.project.trainingdiary.dto.response.schedule.CancelScheduleByTrainerResponseDto;
+import com.project.trainingdiary.dto.response.schedule.OpenSlotResponseDto;
 import com.project.trainingdiary.dto.response.schedule.RegisterScheduleResponseDto;
 import com.project.trainingdiary.dto.response.schedule.RejectScheduleResponseDto;
 import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
@@ -62,6 +64,22 @@ public class ScheduleController {
     return ResponseEntity.ok().build();
   }
 
+  @Operation(
+      summary = "트레이너의 반복 일정 열기",
+      description = "트레이너가 기간 내 매주 같은 요일, 같은 시간의 일정을 열어놓음. (기간은 최대 180일, 이미 일정이 있는 시간은 열 수 없음)"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "성공")
+  })
+  @PreAuthorize("hasRole('TRAINER')")
+  @PostMapping("/trainers/open/recurring")
+  public ResponseEntity<Void> openRecurringSchedule(
+      @RequestBody @Valid OpenRecurringScheduleRequestDto dto
+  ) {
+    scheduleOpenCloseService.createRecurringSchedule(dto, LocalDate.now());
+    return ResponseEntity.ok().build();
+  }
+
   @Operation(
       summary = "트레이너의 일정 조회",
       description = "트레이너가 기간 내의 일정을 조회함. (조회 간격은 최대 180일)"
@@ -94,6 +112,21 @@ public class ScheduleController {
     return ResponseEntity.ok(scheduleTraineeService.getScheduleList(startDate, endDate));
   }
 
+  @Operation(
+      summary = "트레이니의 예약 가능 일정 조회",
+      description = "트레이니가 PT 계약을 맺은 트레이너의 가장 가까운 예약 가능 일정을 조회함. (최대 50개)"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "성공")
+  })
+  @PreAuthorize("hasRole('TRAINEE')")
+  @GetMapping("/trainees/open-slots")
+  public ResponseEntity<List<OpenSlotResponseDto>> getOpenSlots(
+      @RequestParam(defaultValue = "10") int count
+  ) {
+    return ResponseEntity.ok(scheduleTraineeService.getOpenSlots(count, LocalDateTime.now()));
+  }
+
   @Operation(
       summary = "트레이너의 일정 닫기",
       description = "트레이너가 예약 가능한 일정을 닫음"
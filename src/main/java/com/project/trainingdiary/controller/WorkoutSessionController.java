@@ -8,6 +8,7 @@ import com.project.trainingdiary.dto.response.workout.session.WorkoutImageRespon
 import com.project.trainingdiary.dto.response.workout.session.WorkoutSessionListResponseDto;
 import com.project.trainingdiary.dto.response.workout.session.WorkoutSessionResponseDto;
 import com.project.trainingdiary.dto.response.workout.session.WorkoutVideoResponseDto;
+import com.project.trainingdiary.dto.response.workout.session.WorkoutVideoStatusResponseDto;
 import com.project.trainingdiary.service.WorkoutSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -156,13 +157,14 @@ public class WorkoutSessionController {
 
   @Operation(
       summary = "운동 일지 동영상 업로드",
-      description = "트레이너가 운동 일지에 동영상을 업로드함"
+      description = "트레이너가 운동 일지에 동영상을 업로드함. 인코딩은 백그라운드에서 진행되며 완료되면 알림이 전송됨"
   )
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "성공"),
       @ApiResponse(responseCode = "404", description = "운동 일지를 찾을 수 없음", content = @Content),
       @ApiResponse(responseCode = "413", description = "동영상 업로드 개수는 5개까지 가능", content = @Content),
-      @ApiResponse(responseCode = "415", description = "파일 타입 확인 필요", content = @Content)
+      @ApiResponse(responseCode = "415", description = "파일 타입 확인 필요", content = @Content),
+      @ApiResponse(responseCode = "429", description = "동영상 처리 대기열이 가득 참", content = @Content)
   })
   @PreAuthorize("hasRole('TRAINER')")
   @PutMapping(value = "/videos",
@@ -170,7 +172,7 @@ public class WorkoutSessionController {
   public ResponseEntity<WorkoutVideoResponseDto> uploadWorkoutVideo(
       @RequestPart("sessionId") Long sessionId,
       @RequestPart("video") MultipartFile video
-  ) throws IOException, InterruptedException {
+  ) throws IOException {
     WorkoutVideoRequestDto dto = WorkoutVideoRequestDto.builder()
         .sessionId(sessionId)
         .video(video)
@@ -178,4 +180,21 @@ public class WorkoutSessionController {
     return ResponseEntity.ok(workoutSessionService.uploadWorkoutVideo(dto));
   }
 
+  @Operation(
+      summary = "운동 일지 동영상 처리 상태 조회",
+      description = "트레이너가 업로드한 동영상의 인코딩 상태를 조회함"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "404", description = "운동 일지 또는 동영상을 찾을 수 없음", content = @Content)
+  })
+  @PreAuthorize("hasRole('TRAINER')")
+  @GetMapping("/{sessionId}/videos/{mediaId}")
+  public ResponseEntity<WorkoutVideoStatusResponseDto> getWorkoutVideoStatus(
+      @PathVariable Long sessionId,
+      @PathVariable Long mediaId
+  ) {
+    return ResponseEntity.ok(workoutSessionService.getWorkoutVideoStatus(sessionId, mediaId));
+  }
+
 }
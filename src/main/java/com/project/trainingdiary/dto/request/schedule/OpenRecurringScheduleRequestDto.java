@@ -0,0 +1,38 @@
+package com.project.trainingdiary.dto.request.schedule;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OpenRecurringScheduleRequestDto {
+
+  @NotNull(message = "startDate를 입력해주세요")
+  @Schema(example = "2024-07-01")
+  private LocalDate startDate;
+
+  @NotNull(message = "endDate를 입력해주세요")
+  @Schema(example = "2024-09-30")
+  private LocalDate endDate;
+
+  @NotEmpty(message = "daysOfWeek를 입력해주세요")
+  @Schema(type = "array", example = "[\"MONDAY\", \"WEDNESDAY\"]")
+  private List<DayOfWeek> daysOfWeek;
+
+  @NotEmpty(message = "startTimes를 입력해주세요")
+  @Schema(type = "array", example = "[\"10:00\", \"14:00\"]")
+  private List<LocalTime> startTimes;
+}
@@ -0,0 +1,15 @@
+package com.project.trainingdiary.dto.response.schedule;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class OpenSlotResponseDto {
+
+  private long scheduleId;
+  private LocalDateTime startAt;
+}
@@ -49,12 +49,14 @@ public class WorkoutSessionResponseDto {
 
     List<String> thumbnailUrls = workoutMedia.stream()
         .filter(media -> media.getMediaType().equals(VIDEO))
+        .filter(WorkoutMediaEntity::isCompleted)
         .map(WorkoutMediaEntity::getThumbnailUrl)
         .map(ConvertCloudFrontUrlUtil::convertToCloudFrontUrl)
         .toList();
 
     List<String> videoUrls = workoutMedia.stream()
         .filter(media -> media.getMediaType().equals(VIDEO))
+        .filter(WorkoutMediaEntity::isCompleted)
         .map(WorkoutMediaEntity::getOriginalUrl)
         .map(ConvertCloudFrontUrlUtil::convertToCloudFrontUrl)
         .toList();
@@ -1,6 +1,7 @@
 package com.project.trainingdiary.dto.response.workout.session;
 
 import com.project.trainingdiary.entity.WorkoutMediaEntity;
+import com.project.trainingdiary.model.type.WorkoutMediaStatusType;
 import com.project.trainingdiary.util.ConvertCloudFrontUrlUtil;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,8 @@ import lombok.Setter;
 public class WorkoutVideoResponseDto {
 
   private Long sessionId;
+  private Long mediaId;                 // 이번에 업로드한 동영상
+  private WorkoutMediaStatusType status;
   private List<String> originalUrls;
   private List<String> thumbnailUrls;
 
@@ -0,0 +1,42 @@
+package com.project.trainingdiary.dto.response.workout.session;
+
+import com.project.trainingdiary.entity.WorkoutMediaEntity;
+import com.project.trainingdiary.model.type.WorkoutMediaStatusType;
+import com.project.trainingdiary.util.ConvertCloudFrontUrlUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WorkoutVideoStatusResponseDto {
+
+  private Long sessionId;
+  private Long mediaId;
+  private WorkoutMediaStatusType status;
+  private String originalUrl;
+  private String thumbnailUrl;
+
+  public static WorkoutVideoStatusResponseDto fromEntity(
+      WorkoutMediaEntity workoutMedia,
+      Long sessionId
+  ) {
+
+    return WorkoutVideoStatusResponseDto.builder()
+        .sessionId(sessionId)
+        .mediaId(workoutMedia.getId())
+        .status(workoutMedia.isCompleted()
+            ? WorkoutMediaStatusType.COMPLETED : workoutMedia.getStatus())
+        .originalUrl(ConvertCloudFrontUrlUtil.convertToCloudFrontUrl(workoutMedia.getOriginalUrl()))
+        .thumbnailUrl(
+            ConvertCloudFrontUrlUtil.convertToCloudFrontUrl(workoutMedia.getThumbnailUrl()))
+        .build();
+
+  }
+
+}
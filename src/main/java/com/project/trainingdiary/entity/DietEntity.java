@@ -37,6 +37,9 @@ public class DietEntity extends BaseEntity {
   @Column(length = 2000)
   private String thumbnailUrl;
 
+  // 썸네일 이미지 형식 (webp, jpeg 등). 이전에 저장된 식단은 null 이며 원본과 같은 형식
+  private String thumbnailFormat;
+
   @ManyToOne(fetch = LAZY)
   @JoinColumn(name = "trainee_id")
   private TraineeEntity trainee;
@@ -0,0 +1,55 @@
+package com.project.trainingdiary.entity;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import com.project.trainingdiary.model.type.ImageAssetType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 이미지 내용의 해시로 업로드된 S3 객체를 찾고, 몇 곳에서 참조하고 있는지 관리하는 엔티티
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity(name = "image_asset")
+@Table(indexes = {
+    @Index(name = "idx_image_asset_hash", columnList = "asset_type, content_hash"),
+    @Index(name = "idx_image_asset_original_url", columnList = "original_url")
+})
+public class ImageAssetEntity extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = IDENTITY)
+  private Long id;
+
+  // 같은 이미지라도 식단과 운동 일지는 리사이즈 크기가 다르므로 구분해서 관리
+  @Enumerated(value = STRING)
+  @Column(name = "asset_type")
+  private ImageAssetType assetType;
+
+  // 원본 파일 내용의 SHA-256 (hex)
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
+  @Column(name = "original_url")
+  private String originalUrl;
+  private String thumbnailUrl;
+  private String thumbnailFormat;
+
+  private int referenceCount;
+
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
@@ -46,6 +48,10 @@ public class PtContractEntity extends BaseEntity {
   @JoinColumn(name = "trainee_id")
   private TraineeEntity trainee;
 
+  @Version
+  @ColumnDefault("0")
+  private Long version;
+
   public int getRemainingSession() {
     return this.totalSession - this.usedSession;
   }
@@ -55,14 +61,6 @@ public class PtContractEntity extends BaseEntity {
     this.totalSessionUpdatedAt = LocalDateTime.now();
   }
 
-  public void useSession() {
-    this.usedSession += 1;
-  }
-
-  public void restoreSession() {
-    this.usedSession -= 1;
-  }
-
   public void terminate() {
     isTerminated = true;
   }
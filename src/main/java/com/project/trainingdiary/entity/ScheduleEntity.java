@@ -1,7 +1,7 @@
 package com.project.trainingdiary.entity;
 
 import static jakarta.persistence.EnumType.STRING;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 import com.project.trainingdiary.model.type.ScheduleStatusType;
 import jakarta.persistence.Column;
@@ -9,14 +9,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @ToString
@@ -24,10 +30,20 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @Entity(name = "schedule")
+@Table(uniqueConstraints = {
+    // 반복 일정으로 생성하는 일정과 직접 연 일정이 같은 시간에 중복으로 생기지 않도록 함
+    @UniqueConstraint(
+        name = "uk_schedule_trainer_start_at", columnNames = {"trainer_id", "start_at"}
+    )
+}, indexes = {
+    @Index(name = "idx_schedule_pt_contract_start_at", columnList = "pt_contract_id, start_at"),
+    @Index(name = "idx_schedule_start_at_status", columnList = "start_at, schedule_status_type")
+})
 public class ScheduleEntity {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE, generator = "schedule_seq")
+  @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -48,6 +64,10 @@ public class ScheduleEntity {
   @JoinColumn(name = "trainer_id")
   private TrainerEntity trainer;
 
+  @Version
+  @ColumnDefault("0")
+  private Long version;
+
   public void apply(PtContractEntity ptContract) {
     this.scheduleStatusType = ScheduleStatusType.RESERVE_APPLIED;
     this.ptContract = ptContract;
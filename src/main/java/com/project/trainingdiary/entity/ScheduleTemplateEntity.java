@@ -0,0 +1,114 @@
+package com.project.trainingdiary.entity;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.FetchType.LAZY;
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 매주 같은 요일, 같은 시간에 반복해서 열리는 일정
+ * <p>
+ * 일정(schedule)은 반복 일정을 열 때와 매일 밤 정해진 기간 뒤까지, 예약할 때는 예약하는 날짜까지 생성됨
+ */
+@Getter
+@ToString(exclude = "trainer")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity(name = "schedule_template")
+@Table(indexes = {
+    @Index(name = "idx_schedule_template_trainer_id", columnList = "trainer_id")
+})
+public class ScheduleTemplateEntity extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = LAZY)
+  @JoinColumn(name = "trainer_id")
+  private TrainerEntity trainer;
+
+  @Enumerated(value = STRING)
+  @Column(nullable = false)
+  private DayOfWeek dayOfWeek;
+
+  @Column(nullable = false)
+  private LocalTime startTime;
+
+  @Column(nullable = false)
+  private LocalDate startDate;
+
+  @Column(nullable = false)
+  private LocalDate endDate;
+
+  /**
+   * 이 날짜까지는 일정이 생성되었음
+   */
+  @Column(nullable = false)
+  private LocalDate materializedUntil;
+
+  /**
+   * 아직 생성되지 않은 일정 중 today 부터 until 까지의 시작 시간. 지난 날짜의 일정은 만들지 않음
+   */
+  public List<LocalDateTime> getPendingStartTimes(LocalDate today, LocalDate until) {
+    LocalDate last = until.isBefore(endDate) ? until : endDate;
+    LocalDate first = materializedUntil.isBefore(today) ? today : materializedUntil.plusDays(1);
+    List<LocalDateTime> startTimes = new ArrayList<>();
+    for (LocalDate date = first.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+        !date.isAfter(last); date = date.plusWeeks(1)) {
+      startTimes.add(LocalDateTime.of(date, startTime));
+    }
+    return startTimes;
+  }
+
+  /**
+   * today 부터 until 까지 생성할 일정의 시작 시간을 반환하고, 생성된 날짜를 앞으로 옮김
+   */
+  public List<LocalDateTime> materialize(LocalDate today, LocalDate until) {
+    List<LocalDateTime> startTimes = getPendingStartTimes(today, until);
+    LocalDate last = until.isBefore(endDate) ? until : endDate;
+    if (last.isAfter(materializedUntil)) {
+      materializedUntil = last;
+    }
+    return startTimes;
+  }
+
+  public static ScheduleTemplateEntity of(
+      TrainerEntity trainer,
+      DayOfWeek dayOfWeek,
+      LocalTime startTime,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    return ScheduleTemplateEntity.builder()
+        .trainer(trainer)
+        .dayOfWeek(dayOfWeek)
+        .startTime(startTime)
+        .startDate(startDate)
+        .endDate(endDate)
+        .materializedUntil(startDate.minusDays(1))
+        .build();
+  }
+}
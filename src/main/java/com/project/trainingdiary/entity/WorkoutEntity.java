@@ -1,12 +1,13 @@
 package com.project.trainingdiary.entity;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 import com.project.trainingdiary.dto.request.workout.session.WorkoutCreateRequestDto;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutUpdateRequestDto;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +23,8 @@ import lombok.ToString;
 public class WorkoutEntity extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE, generator = "workout_seq")
+  @SequenceGenerator(name = "workout_seq", sequenceName = "workout_seq", allocationSize = 50)
   private Long id;
 
   private String workoutTypeName;
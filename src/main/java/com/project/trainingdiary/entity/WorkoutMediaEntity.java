@@ -1,13 +1,15 @@
 package com.project.trainingdiary.entity;
 
 import static jakarta.persistence.EnumType.STRING;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
+import com.project.trainingdiary.model.type.WorkoutMediaStatusType;
 import com.project.trainingdiary.model.type.WorkoutMediaType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,13 +25,35 @@ import lombok.ToString;
 public class WorkoutMediaEntity extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE, generator = "workout_media_seq")
+  @SequenceGenerator(name = "workout_media_seq", sequenceName = "workout_media_seq", allocationSize = 50)
   private Long id;
 
   private String originalUrl;
   private String thumbnailUrl;
 
+  // 썸네일 이미지 형식 (webp, jpeg 등). 이전에 저장된 미디어는 null 이며 원본과 같은 형식
+  private String thumbnailFormat;
+
   @Enumerated(value = STRING)
   private WorkoutMediaType mediaType;
 
+  // 동영상은 백그라운드에서 인코딩되므로 처리 상태를 가짐. 이전에 저장된 미디어는 null 이며 완료된 것으로 취급
+  @Enumerated(value = STRING)
+  private WorkoutMediaStatusType status;
+
+  public boolean isCompleted() {
+    return status == null || status == WorkoutMediaStatusType.COMPLETED;
+  }
+
+  public void complete(String originalUrl, String thumbnailUrl) {
+    this.originalUrl = originalUrl;
+    this.thumbnailUrl = thumbnailUrl;
+    this.status = WorkoutMediaStatusType.COMPLETED;
+  }
+
+  public void fail() {
+    this.status = WorkoutMediaStatusType.FAILED;
+  }
+
 }
@@ -0,0 +1,11 @@
+package com.project.trainingdiary.exception.workout;
+
+import com.project.trainingdiary.exception.GlobalException;
+import org.springframework.http.HttpStatus;
+
+public class ImageTooLargeException extends GlobalException {
+
+  public ImageTooLargeException() {
+    super(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 해상도가 너무 큽니다.");
+  }
+}
@@ -0,0 +1,11 @@
+package com.project.trainingdiary.exception.workout;
+
+import com.project.trainingdiary.exception.GlobalException;
+import org.springframework.http.HttpStatus;
+
+public class VideoProcessingBusyException extends GlobalException {
+
+  public VideoProcessingBusyException() {
+    super(HttpStatus.TOO_MANY_REQUESTS, "동영상 처리 요청이 많아 잠시 후 다시 시도해주세요.");
+  }
+}
@@ -0,0 +1,11 @@
+package com.project.trainingdiary.exception.workout;
+
+import com.project.trainingdiary.exception.GlobalException;
+import org.springframework.http.HttpStatus;
+
+public class WorkoutMediaNotFoundException extends GlobalException {
+
+  public WorkoutMediaNotFoundException(Long id) {
+    super(HttpStatus.NOT_FOUND, "해당 일련번호의 운동 일지 미디어를 찾을 수 없습니다. ID: " + id);
+  }
+}
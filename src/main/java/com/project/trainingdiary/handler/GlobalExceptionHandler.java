@@ -4,6 +4,7 @@ import com.project.trainingdiary.exception.ErrorResponse;
 import com.project.trainingdiary.exception.GlobalException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -55,6 +56,26 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(response, e.getHttpStatus());
   }
 
+  /**
+   * 같은 데이터를 동시에 수정해서 버전이 맞지 않는 경우를 처리합니다.
+   *
+   * @param e OptimisticLockingFailureException
+   * @return ResponseEntity<ErrorResponse> - 충돌 오류 응답
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+      OptimisticLockingFailureException e, HttpServletRequest request) {
+
+    log.error(
+        "OptimisticLockingFailureException, {}, {}, {}",
+        HttpStatus.CONFLICT, e.getMessage(), request.getRequestURI()
+    );
+
+    ErrorResponse response = new ErrorResponse(HttpStatus.CONFLICT.value(),
+        "다른 요청과 동시에 처리되어 실패했습니다. 잠시 후 다시 시도해주세요.");
+    return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+  }
+
   /**
    * 필드 유효성 검사 예외를 처리합니다.
    *
@@ -0,0 +1,17 @@
+package com.project.trainingdiary.model;
+
+import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캘린더 캐시에 저장하는 한 달치 일정. loadedAt 은 DB 조회를 시작하기 직전의 캐시 시각이고, schedules 는 바꿀 수 없는 목록
+ */
+@Getter
+@AllArgsConstructor
+public class CachedScheduleCalendar {
+
+  private final long loadedAt;
+  private final List<ScheduleResponseDto> schedules;
+}
@@ -0,0 +1,13 @@
+package com.project.trainingdiary.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImageInfo {
+
+  private final String formatName;
+  private final int width;
+  private final int height;
+}
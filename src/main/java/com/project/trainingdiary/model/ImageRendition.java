@@ -0,0 +1,14 @@
+package com.project.trainingdiary.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImageRendition {
+
+  private final String key;
+  private final int targetSize;
+  // 썸네일은 원본 확장자 대신 ThumbnailEncoder 의 형식으로 인코딩함
+  private final boolean thumbnail;
+}
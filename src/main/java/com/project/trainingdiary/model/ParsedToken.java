@@ -0,0 +1,35 @@
+package com.project.trainingdiary.model;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 번 검증한 JWT 토큰의 결과. 요청을 처리하는 동안 같은 토큰을 다시 파싱하지 않도록 필요한 곳에 넘겨줌
+ * <p>
+ * 서명은 맞지만 만료된 토큰은 expired 로 표시하고, 리프레시를 위해 subject 와 만료 시간을 그대로 담음
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParsedToken {
+
+  private static final ParsedToken INVALID = new ParsedToken(false, false, null, null);
+
+  private final boolean valid;
+  private final boolean expired;
+  private final String subject;
+  private final LocalDateTime expiryDate;
+
+  public static ParsedToken valid(String subject, LocalDateTime expiryDate) {
+    return new ParsedToken(true, false, subject, expiryDate);
+  }
+
+  public static ParsedToken expired(String subject, LocalDateTime expiryDate) {
+    return new ParsedToken(false, true, subject, expiryDate);
+  }
+
+  public static ParsedToken invalid() {
+    return INVALID;
+  }
+}
@@ -0,0 +1,19 @@
+package com.project.trainingdiary.model;
+
+import java.time.YearMonth;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 캘린더 캐시의 키. 트레이너 조회는 traineeId가 null, 트레이니 조회는 trainerId가 현재 연결된 트레이너(없으면 null)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ScheduleCalendarKey {
+
+  private final Long trainerId;
+  private final Long traineeId;
+  private final YearMonth month;
+}
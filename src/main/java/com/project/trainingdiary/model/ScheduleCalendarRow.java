@@ -0,0 +1,22 @@
+package com.project.trainingdiary.model;
+
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캘린더 조회 시 일정 한 건에서 필요한 컬럼만 담는 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleCalendarRow {
+
+  private final Long scheduleId;
+  private final LocalDateTime startAt;
+  private final ScheduleStatusType scheduleStatus;
+  private final Long trainerId;
+  private final String trainerName;
+  private final Long traineeId;
+  private final String traineeName;
+}
@@ -9,7 +9,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 public class ScheduleResponseDetail {
 
   private Long scheduleId;
@@ -0,0 +1,72 @@
+package com.project.trainingdiary.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 트레이너 한 명의 예약 가능한(OPEN) 일정을 1시간 단위 비트로 표현
+ * <p>
+ * baseDate 00시부터 한 시간마다 비트 하나를 사용하고, 정각에 시작하는 일정만 표현함
+ */
+public class TrainerAvailability {
+
+  private static final int HOURS_PER_DAY = 24;
+
+  private final LocalDate baseDate;
+  private final int days;
+  private final BitSet openSlots;
+
+  public TrainerAvailability(LocalDate baseDate, int days) {
+    this.baseDate = baseDate;
+    this.days = days;
+    this.openSlots = new BitSet(days * HOURS_PER_DAY);
+  }
+
+  public synchronized void set(LocalDateTime startAt, boolean open) {
+    int index = indexOf(startAt);
+    if (index >= 0) {
+      openSlots.set(index, open);
+    }
+  }
+
+  /**
+   * from 이후에 시작하는 OPEN 일정을 시간 순으로 최대 count개 찾음
+   */
+  public synchronized List<LocalDateTime> findNext(LocalDateTime from, int count) {
+    List<LocalDateTime> result = new ArrayList<>(count);
+    LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+    if (start.isBefore(from)) {
+      start = start.plusHours(1);
+    }
+
+    long startIndex = ChronoUnit.HOURS.between(baseDate.atStartOfDay(), start);
+    if (startIndex >= (long) days * HOURS_PER_DAY) {
+      return result;
+    }
+
+    for (int i = openSlots.nextSetBit((int) Math.max(startIndex, 0));
+        i >= 0 && result.size() < count;
+        i = openSlots.nextSetBit(i + 1)) {
+      result.add(baseDate.atStartOfDay().plusHours(i));
+    }
+    return result;
+  }
+
+  /**
+   * 일정 시작 시간의 비트 위치. 범위 밖이거나 정각이 아니면 -1
+   */
+  private int indexOf(LocalDateTime startAt) {
+    if (!startAt.equals(startAt.truncatedTo(ChronoUnit.HOURS))) {
+      return -1;
+    }
+    long index = ChronoUnit.HOURS.between(baseDate.atStartOfDay(), startAt);
+    if (index < 0 || index >= (long) days * HOURS_PER_DAY) {
+      return -1;
+    }
+    return (int) index;
+  }
+}
@@ -0,0 +1,15 @@
+package com.project.trainingdiary.model;
+
+import java.io.File;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VideoTranscodeJob {
+
+  private final Long sessionId;
+  private final Long mediaId;
+  private final File source;
+  private final String uuid;
+}
@@ -0,0 +1,12 @@
+package com.project.trainingdiary.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VideoUploadResult {
+
+  private final String originalUrl;
+  private final String thumbnailUrl;
+}
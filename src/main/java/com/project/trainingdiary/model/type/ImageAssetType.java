@@ -0,0 +1,8 @@
+package com.project.trainingdiary.model.type;
+
+public enum ImageAssetType {
+
+  DIET,
+  WORKOUT
+
+}
@@ -9,5 +9,6 @@ public enum NotificationType {
   RESERVATION_CANCELLED_BY_TRAINEE,
   RESERVATION_REGISTERED,
   PT_CONTRACT_CREATED,
-  ONE_HOUR_BEFORE_PT_SESSION
+  ONE_HOUR_BEFORE_PT_SESSION,
+  VIDEO_UPLOAD_COMPLETED
 }
\ No newline at end of file
@@ -1,23 +1,25 @@
 package com.project.trainingdiary.provider;
 
 import static com.project.trainingdiary.util.MediaUtil.getExtension;
-import static com.project.trainingdiary.util.MediaUtil.getMediaType;
 
+import com.project.trainingdiary.component.ImageBufferPool;
+import com.project.trainingdiary.component.ThumbnailEncoder;
+import com.project.trainingdiary.model.ImageInfo;
 import com.project.trainingdiary.util.MediaUtil;
-import io.awspring.cloud.s3.ObjectMetadata;
+import com.project.trainingdiary.util.PooledByteArrayOutputStream;
 import io.awspring.cloud.s3.S3Operations;
-import io.awspring.cloud.s3.S3Resource;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.UUID;
 import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @RequiredArgsConstructor
 @Component
@@ -26,38 +28,38 @@ public class S3DietImageProvider {
   @Value("${spring.cloud.aws.s3.bucket}")
   private String bucket;
 
+  private static final int ORIGINAL_SIZE = 410;
+  private static final int THUMBNAIL_SIZE = 150;
+
   private final S3Operations s3Operations;
+  private final S3Client s3Client;
+  private final ImageBufferPool imageBufferPool;
+  private final ThumbnailEncoder thumbnailEncoder;
 
   public String uploadImageToS3(MultipartFile file) throws IOException {
-    BufferedImage originalImage = ImageIO.read(file.getInputStream());
+    BufferedImage originalImage = readImage(file, ORIGINAL_SIZE);
     BufferedImage resizedImage = MediaUtil.resizeOriginalImage(originalImage);
     String extension = getExtension(MediaUtil.checkFileNameExist(file));
     String key = UUID.randomUUID() + "." + extension;
 
-    try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-      ImageIO.write(resizedImage, extension, baos);
-      try (InputStream inputStream = new ByteArrayInputStream(baos.toByteArray())) {
-        S3Resource s3Resource = s3Operations.upload(bucket, key, inputStream,
-            ObjectMetadata.builder().contentType(file.getContentType()).build());
-        return s3Resource.getURL().toExternalForm();
-      }
-    }
+    return encodeAndUpload(resizedImage, extension, key, file.getContentType());
   }
 
   public String uploadThumbnailToS3(MultipartFile file, String originalKey, String extension)
       throws IOException {
-    BufferedImage originalImage = ImageIO.read(file.getInputStream());
+    BufferedImage originalImage = readImage(file, THUMBNAIL_SIZE);
     BufferedImage thumbnailImage = MediaUtil.resizeThumbnail(originalImage);
+    String originalName = originalKey.substring(originalKey.lastIndexOf("/") + 1);
+    // 썸네일은 원본 확장자 대신 ThumbnailEncoder 의 형식으로 저장
+    String thumbnailKey = "thumb_" + originalName.substring(0, originalName.lastIndexOf('.') + 1)
+        + thumbnailEncoder.getExtension();
 
-    try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-      ImageIO.write(thumbnailImage, extension, byteArrayOutputStream);
-      try (InputStream inputStream = new ByteArrayInputStream(
-          byteArrayOutputStream.toByteArray())) {
-        String thumbnailKey = "thumb_" + originalKey.substring(originalKey.lastIndexOf("/") + 1);
-        S3Resource s3Resource = s3Operations.upload(bucket, thumbnailKey, inputStream,
-            ObjectMetadata.builder().contentType(getMediaType(extension)).build());
-        return s3Resource.getURL().toExternalForm();
-      }
+    PooledByteArrayOutputStream buffer = imageBufferPool.acquire();
+    try {
+      thumbnailEncoder.encode(thumbnailImage, buffer);
+      return putObject(buffer, thumbnailKey, thumbnailEncoder.getContentType());
+    } finally {
+      imageBufferPool.release(buffer);
     }
   }
 
@@ -65,4 +67,40 @@ public class S3DietImageProvider {
     String fileKey = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
     s3Operations.deleteObject(bucket, fileKey);
   }
+
+  /**
+   * 헤더로 형식과 해상도를 먼저 확인한 뒤, 목표 크기에 맞게 서브샘플링해서 디코딩
+   */
+  private BufferedImage readImage(MultipartFile file, int targetSize) throws IOException {
+    ImageInfo imageInfo = MediaUtil.inspectImage(file);
+    return MediaUtil.readImage(file, imageInfo, targetSize);
+  }
+
+  /**
+   * 풀에서 빌린 버퍼에 인코딩한 뒤 복사 없이 그대로 업로드
+   */
+  private String encodeAndUpload(BufferedImage image, String extension, String key,
+      String contentType) throws IOException {
+    PooledByteArrayOutputStream buffer = imageBufferPool.acquire();
+    try {
+      ImageIO.write(image, extension, buffer);
+      return putObject(buffer, key, contentType);
+    } finally {
+      imageBufferPool.release(buffer);
+    }
+  }
+
+  private String putObject(PooledByteArrayOutputStream buffer, String key, String contentType) {
+    s3Client.putObject(PutObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .contentLength((long) buffer.size())
+            .build(),
+        RequestBody.fromInputStream(buffer.toInputStream(), buffer.size())
+    );
+    return s3Client.utilities()
+        .getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build())
+        .toExternalForm();
+  }
 }
@@ -1,20 +1,33 @@
 package com.project.trainingdiary.provider;
 
+import com.project.trainingdiary.component.ImageBufferPool;
+import com.project.trainingdiary.component.ThumbnailEncoder;
 import com.project.trainingdiary.exception.workout.InvalidFileTypeException;
+import com.project.trainingdiary.model.ImageInfo;
+import com.project.trainingdiary.model.ImageRendition;
 import com.project.trainingdiary.util.MediaUtil;
-import io.awspring.cloud.s3.ObjectMetadata;
+import com.project.trainingdiary.util.PooledByteArrayOutputStream;
 import io.awspring.cloud.s3.S3Operations;
-import io.awspring.cloud.s3.S3Resource;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Component
 @RequiredArgsConstructor
@@ -24,27 +37,53 @@ public class S3ImageProvider {
   private String bucket;
 
   private final S3Operations s3Operations;
+  private final S3Client s3Client;
+  private final ImageBufferPool imageBufferPool;
+  private final ThumbnailEncoder thumbnailEncoder;
+  private final ThreadPoolTaskExecutor imageProcessExecutor;
+  private final ThreadPoolTaskExecutor imageUploadExecutor;
 
-  public String uploadImage(MultipartFile file, String key, String extension, int targetSize)
-      throws IOException {
+  /**
+   * 이미지를 한 번만 디코딩해서 요청된 모든 크기로 리사이즈한 뒤 업로드하고, 요청 순서대로 URL 을 반환
+   * <p>
+   * 리사이즈와 인코딩은 CPU 풀에서, 업로드는 I/O 풀에서 처리함. 큰 크기부터 차례로 줄여가며 이전 결과로부터 다음 크기를 만들고, 인코딩이 끝난 크기부터 바로 업로드를 시작함
+   */
+  public CompletableFuture<List<String>> uploadImagesAsync(MultipartFile file, String extension,
+      List<ImageRendition> renditions) throws IOException {
     if (!MediaUtil.isValidImageType(file)) {
       throw new InvalidFileTypeException();
     }
+    // 헤더만 읽어서 형식과 해상도를 먼저 확인하고, 문제가 있으면 디코딩하기 전에 거절
+    ImageInfo imageInfo = MediaUtil.inspectImage(file);
 
-    BufferedImage originalImage = ImageIO.read(file.getInputStream());
-
-    // 이미지 리사이즈
-    BufferedImage resizedImage = MediaUtil.resizeImageToWidth(originalImage, targetSize);
+    return CompletableFuture
+        .supplyAsync(() -> resizeAndUpload(file, imageInfo, extension, renditions),
+            imageProcessExecutor)
+        .thenCompose(uploads -> CompletableFuture
+            .allOf(uploads.toArray(new CompletableFuture[0]))
+            .whenComplete((done, e) -> {
+              // 일부 크기만 업로드에 성공한 경우 성공한 파일을 정리
+              if (e != null) {
+                deleteUploaded(uploads);
+              }
+            })
+            .thenApply(done -> uploads.stream().map(CompletableFuture::join).toList()));
+  }
 
-    try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-      ImageIO.write(resizedImage, extension, byteArrayOutputStream);
-      try (InputStream inputStream = new ByteArrayInputStream(
-          byteArrayOutputStream.toByteArray())) {
-        String contentType = "image/" + extension;
-        S3Resource s3Resource = s3Operations.upload(bucket, key, inputStream,
-            ObjectMetadata.builder().contentType(contentType).build());
-        return s3Resource.getURL().toExternalForm();
+  /**
+   * 비동기 업로드 결과를 기다리고, 작업 중 발생한 예외를 원래 타입으로 다시 던짐
+   */
+  public static <T> T join(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+        throw uncheckedIOException.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
       }
+      throw e;
     }
   }
 
@@ -53,4 +92,94 @@ public class S3ImageProvider {
     s3Operations.deleteObject(bucket, key);
   }
 
+  private List<CompletableFuture<String>> resizeAndUpload(MultipartFile file,
+      ImageInfo imageInfo, String extension, List<ImageRendition> renditions) {
+    List<ImageRendition> bySizeDesc = renditions.stream()
+        .sorted(Comparator.comparingInt(ImageRendition::getTargetSize).reversed())
+        .toList();
+
+    BufferedImage sourceImage;
+    try {
+      sourceImage = MediaUtil.readImage(file, imageInfo, bySizeDesc.get(0).getTargetSize());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    List<CompletableFuture<String>> uploads = new ArrayList<>(
+        Collections.nCopies(renditions.size(), null));
+
+    try {
+      for (ImageRendition rendition : bySizeDesc) {
+        // 이미지 리사이즈
+        sourceImage = MediaUtil.resizeImageToWidth(sourceImage, rendition.getTargetSize());
+        PooledByteArrayOutputStream encoded = rendition.isThumbnail()
+            ? encodeThumbnail(sourceImage) : encode(sourceImage, extension);
+        String contentType = rendition.isThumbnail()
+            ? thumbnailEncoder.getContentType() : "image/" + extension;
+
+        uploads.set(renditions.indexOf(rendition), CompletableFuture.supplyAsync(
+            () -> upload(encoded, rendition.getKey(), contentType),
+            imageUploadExecutor
+        ));
+      }
+    } catch (RuntimeException e) {
+      // 먼저 업로드를 시작한 크기가 있으면 업로드가 끝나는 대로 삭제
+      deleteUploaded(uploads);
+      throw e;
+    }
+    return uploads;
+  }
+
+  /**
+   * 크기별 업로드 중 성공한 것만 삭제함. 아직 진행 중인 업로드는 끝난 뒤에 삭제
+   */
+  private void deleteUploaded(List<CompletableFuture<String>> uploads) {
+    uploads.stream()
+        .filter(Objects::nonNull)
+        .forEach(upload -> upload.thenAccept(this::deleteMedia));
+  }
+
+  private PooledByteArrayOutputStream encode(BufferedImage image, String extension) {
+    PooledByteArrayOutputStream buffer = imageBufferPool.acquire();
+    try {
+      ImageIO.write(image, extension, buffer);
+      return buffer;
+    } catch (IOException e) {
+      imageBufferPool.release(buffer);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private PooledByteArrayOutputStream encodeThumbnail(BufferedImage image) {
+    PooledByteArrayOutputStream buffer = imageBufferPool.acquire();
+    try {
+      thumbnailEncoder.encode(image, buffer);
+      return buffer;
+    } catch (IOException e) {
+      imageBufferPool.release(buffer);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 인코딩된 버퍼를 복사 없이 그대로 업로드하고, 길이를 미리 알려서 SDK 가 별도로 버퍼링하지 않도록 함
+   */
+  private String upload(PooledByteArrayOutputStream encoded, String key, String contentType) {
+    try {
+      s3Client.putObject(PutObjectRequest.builder()
+              .bucket(bucket)
+              .key(key)
+              .contentType(contentType)
+              .contentLength((long) encoded.size())
+              .build(),
+          RequestBody.fromInputStream(encoded.toInputStream(), encoded.size())
+      );
+      return s3Client.utilities()
+          .getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build())
+          .toExternalForm();
+    } finally {
+      imageBufferPool.release(encoded);
+    }
+  }
+
 }
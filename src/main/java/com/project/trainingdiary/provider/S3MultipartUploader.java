@@ -0,0 +1,161 @@
+package com.project.trainingdiary.provider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * 길이를 알 수 없는 스트림을 S3 멀티파트 업로드로 전송
+ * <p>
+ * 스트림을 파트 크기만큼 읽을 때마다 별도의 스레드에서 파트를 업로드하므로, 스트림을 생성하는 작업과 네트워크 전송이 동시에 진행됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3MultipartUploader {
+
+  // S3 멀티파트 업로드의 최소 파트 크기는 5MB (마지막 파트 제외)
+  static final int PART_SIZE = 8 * 1024 * 1024;
+  // 업로드 하나당 동시에 메모리에 올라가는 파트 수
+  public static final int MAX_PARTS_IN_FLIGHT = 4;
+
+  @Value("${spring.cloud.aws.s3.bucket}")
+  private String bucket;
+
+  private final S3Client s3Client;
+  private final ThreadPoolTaskExecutor s3PartUploadExecutor;
+
+  /**
+   * 스트림을 끝까지 읽으면서 업로드하고 업로드된 객체의 URL 을 반환. 실패하거나 스트림이 비어있으면 멀티파트 업로드를 취소함
+   */
+  public String upload(String key, String contentType, InputStream inputStream)
+      throws IOException, InterruptedException {
+    String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .contentType(contentType)
+        .build()
+    ).uploadId();
+
+    Semaphore inFlight = new Semaphore(MAX_PARTS_IN_FLIGHT);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+
+    try {
+      int partNumber = 1;
+      int length;
+      do {
+        inFlight.acquire();
+        throwIfFailed(failure.get());
+
+        byte[] buffer = new byte[PART_SIZE];
+        length = inputStream.readNBytes(buffer, 0, PART_SIZE);
+        if (length == 0) {
+          inFlight.release();
+          // 첫 번째 읽기부터 비어있으면 빈 파트를 올리지 않고 업로드를 취소함
+          if (partNumber == 1) {
+            throw new IOException("업로드할 데이터가 없습니다. key: " + key);
+          }
+          break;
+        }
+
+        int number = partNumber++;
+        int partLength = length;
+        futures.add(CompletableFuture
+            .supplyAsync(() -> uploadPart(key, uploadId, number, buffer, partLength),
+                s3PartUploadExecutor)
+            .whenComplete((part, e) -> {
+              if (e != null) {
+                failure.compareAndSet(null, e);
+              }
+              inFlight.release();
+            }));
+      } while (length == PART_SIZE);
+
+      List<CompletedPart> parts = new ArrayList<>(futures.size());
+      for (CompletableFuture<CompletedPart> future : futures) {
+        parts.add(join(future));
+      }
+
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(key)
+          .uploadId(uploadId)
+          .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+          .build());
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      futures.forEach(future -> future.cancel(true));
+      abort(key, uploadId);
+      throw e;
+    }
+
+    return s3Client.utilities()
+        .getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build())
+        .toExternalForm();
+  }
+
+  private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer,
+      int length) {
+    String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength((long) length)
+            .build(),
+        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)
+    ).eTag();
+
+    return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+  }
+
+  private CompletedPart join(CompletableFuture<CompletedPart> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throwIfFailed(e.getCause());
+      throw e;
+    }
+  }
+
+  private void throwIfFailed(Throwable failure) throws IOException {
+    if (failure == null) {
+      return;
+    }
+    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+        ? failure.getCause() : failure;
+    throw new IOException("S3 파트 업로드 실패", cause);
+  }
+
+  private void abort(String key, String uploadId) {
+    try {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(key)
+          .uploadId(uploadId)
+          .build());
+    } catch (RuntimeException e) {
+      log.warn("멀티파트 업로드 취소 실패. key: {}, {}", key, e.getMessage());
+    }
+  }
+}
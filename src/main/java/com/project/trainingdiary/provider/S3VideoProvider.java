@@ -1,6 +1,7 @@
 package com.project.trainingdiary.provider;
 
-import com.project.trainingdiary.util.MediaUtil;
+import com.project.trainingdiary.component.FfmpegProcessScheduler;
+import com.project.trainingdiary.model.VideoUploadResult;
 import com.project.trainingdiary.util.VideoUtil;
 import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Operations;
@@ -12,7 +13,6 @@ import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 @Component
 @RequiredArgsConstructor
@@ -22,70 +22,75 @@ public class S3VideoProvider {
   private String bucket;
 
   private final S3Operations s3Operations;
-
-  public String uploadVideo(MultipartFile video, String uuid)
+  private final S3MultipartUploader s3MultipartUploader;
+  private final FfmpegProcessScheduler ffmpegProcessScheduler;
+
+  /**
+   * 임시 파일로 저장된 동영상에 대해 ffprobe 를 한 번만 실행한 뒤 인코딩 영상과 썸네일을 모두 업로드
+   * <p>
+   * 각 프로세스는 FfmpegProcessScheduler 를 통해 실행되어 동시에 실행되는 개수가 제한됨
+   */
+  public VideoUploadResult uploadVideo(File source, String uuid)
       throws IOException, InterruptedException {
-    String extension = MediaUtil.getExtension(MediaUtil.checkFileNameExist(video));
+    // 인코딩 결과는 항상 fragmented MP4 로 스트리밍되므로 원본 확장자와 관계없이 mp4 로 저장
+    String originalKey = "original_" + uuid + ".mp4";
+    String thumbnailKey = "thumb_" + uuid + ".png";
 
-    String originalKey =
-        "original_" + uuid + "." + (extension.equalsIgnoreCase("mov") ? "mp4" : extension);
+    boolean isVertical = ffmpegProcessScheduler.execute(
+        threads -> VideoUtil.isVerticalVideo(source)
+    );
 
-    String contentType = video.getContentType();
-    if ("mov".equalsIgnoreCase(extension)) {
-      contentType = "video/mp4";
+    String originalUrl = encodeAndUploadVideo(source, isVertical, originalKey);
+    String thumbnailUrl;
+    try {
+      thumbnailUrl = generateAndUploadThumbnail(source, isVertical, thumbnailKey);
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      // 썸네일을 만들지 못하면 미디어가 실패 처리되므로 이미 올라간 영상을 지움
+      s3Operations.deleteObject(bucket, originalKey);
+      throw e;
     }
 
-    return encodeAndUploadVideo(video, originalKey, contentType);
+    return new VideoUploadResult(originalUrl, thumbnailUrl);
   }
 
-  public String uploadThumbnail(MultipartFile video, String uuid)
-      throws IOException, InterruptedException {
-    String thumbnailKey = "thumb_" + uuid + ".png";
-
-    String tmpPath = "/tmp/thumb_" + uuid + ".png";
-    String thumbPath = VideoUtil.generateThumbnail(video, tmpPath);
-
-    S3Resource thumbS3Resource;
-    File tempFile = new File(thumbPath);
+  private String generateAndUploadThumbnail(
+      File source,
+      boolean isVertical,
+      String thumbnailKey
+  ) throws IOException, InterruptedException {
+    String tmpPath = "/tmp/" + thumbnailKey;
 
-    try (InputStream inputStream = new FileInputStream(tempFile)) {
-      thumbS3Resource = s3Operations.upload(bucket, thumbnailKey, inputStream,
-          ObjectMetadata.builder().contentType("image/png").build());
+    try {
+      String thumbPath = ffmpegProcessScheduler.execute(
+          threads -> VideoUtil.generateThumbnail(source, isVertical, tmpPath, threads)
+      );
+      return uploadFile(new File(thumbPath), thumbnailKey, "image/png");
     } finally {
-      if (tempFile.exists()) {
-        tempFile.delete();
-      }
+      new File(tmpPath).delete();
     }
-
-    return thumbS3Resource.getURL().toExternalForm();
   }
 
+  /**
+   * ffmpeg 의 출력을 임시 파일 없이 바로 S3 멀티파트 업로드로 전송해서 인코딩과 업로드가 동시에 진행되도록 함
+   */
   private String encodeAndUploadVideo(
-      MultipartFile video,
-      String originalKey,
-      String contentType
+      File source,
+      boolean isVertical,
+      String originalKey
   ) throws IOException, InterruptedException {
-
-    String tmpPath = "/tmp/" + originalKey;
-
-    File tempFile = null;
-    S3Resource videoS3Resource;
-    try {
-      String encodedVideoPath = VideoUtil.encodeVideo(video, tmpPath);
-      tempFile = new File(encodedVideoPath);
-      try (InputStream inputStream = new FileInputStream(tempFile)) {
-        videoS3Resource = s3Operations.upload(bucket, originalKey, inputStream,
-            ObjectMetadata.builder().contentType(contentType).build());
+    return ffmpegProcessScheduler.execute(threads -> {
+      try (InputStream encoded = VideoUtil.encodeVideoToStream(source, isVertical, threads)) {
+        return s3MultipartUploader.upload(originalKey, "video/mp4", encoded);
       }
-    } finally {
-      if (tempFile != null && tempFile.exists()) {
-        tempFile.delete();
-      } else {
-        new File(tmpPath).delete();
-      }
-    }
+    });
+  }
 
-    return videoS3Resource.getURL().toExternalForm();
+  private String uploadFile(File file, String key, String contentType) throws IOException {
+    try (InputStream inputStream = new FileInputStream(file)) {
+      S3Resource s3Resource = s3Operations.upload(bucket, key, inputStream,
+          ObjectMetadata.builder().contentType(contentType).build());
+      return s3Resource.getURL().toExternalForm();
+    }
   }
 
 }
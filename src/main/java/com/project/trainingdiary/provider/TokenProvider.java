@@ -1,9 +1,12 @@
 package com.project.trainingdiary.provider;
 
-import com.project.trainingdiary.entity.BlacklistedTokenEntity;
-import com.project.trainingdiary.repository.BlacklistRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.model.ParsedToken;
 import com.project.trainingdiary.repository.RedisTokenRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,7 +16,6 @@ import java.security.Key;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,15 +31,18 @@ public class TokenProvider {
 
   private Key key;
 
+  private JwtParser parser;
+
   private final RedisTokenRepository redisTokenRepository;
-  private final BlacklistRepository blacklistRepository;
+  private final Cache<String, ParsedToken> verifiedTokenCache;
 
   /**
-   * JWT 토큰 생성을 위한 비밀 키를 초기화합니다.
+   * JWT 토큰 생성을 위한 비밀 키와 검증에 사용할 파서를 초기화합니다. 파서는 불변이라 여러 스레드에서 같이 사용합니다.
    */
   @PostConstruct
   public void init() {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
   }
 
   /**
@@ -54,78 +59,77 @@ public class TokenProvider {
   }
 
   /**
-   * 사용자 ID로 1시간 동안 유효한 접근 토큰을 생성합니다.
+   * 사용자 ID로 1시간 동안 유효한 접근 토큰을 생성합니다. Redis 저장은 호출하는 쪽에서 한 번에 합니다.
    */
   public String createAccessToken(String userId) {
     LocalDateTime expiryDateTime = LocalDateTime.now().plusHours(1);
     String accessToken = createToken(userId, expiryDateTime);
-    redisTokenRepository.saveToken("accessToken:" + userId, accessToken, expiryDateTime);
     return accessToken;
   }
 
   /**
-   * 사용자 ID로 7일 동안 유효한 리프레시 토큰을 생성합니다.
+   * 사용자 ID로 7일 동안 유효한 리프레시 토큰을 생성합니다. Redis 저장은 호출하는 쪽에서 한 번에 합니다.
    */
   public String createRefreshToken(String userId) {
     LocalDateTime expiryDateTime = LocalDateTime.now().plusDays(7);
     String refreshToken = createToken(userId, expiryDateTime);
-    redisTokenRepository.saveToken("refreshToken:" + userId, refreshToken, expiryDateTime);
     return refreshToken;
   }
 
   /**
-   * 주어진 JWT 토큰의 유효성을 검증합니다.
+   * JWT 토큰의 서명을 한 번만 검증하고, 사용자 이름과 만료 날짜를 함께 돌려줍니다.
+   * <p>
+   * 최근에 검증한 토큰은 캐시에서 바로 돌려주므로 같은 클라이언트의 반복 요청은 서명을 다시 검증하지 않습니다.
    */
-  public boolean validateToken(String token) {
-    try {
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-      return true;
-    } catch (Exception e) {
-      return false;
+  public ParsedToken parse(String token) {
+    if (token == null) {
+      return ParsedToken.invalid();
+    }
+    ParsedToken cached = verifiedTokenCache.getIfPresent(token);
+    if (cached != null) {
+      return cached;
     }
-  }
-
-  /**
-   * JWT 토큰에서 사용자 이름(이메일)을 추출합니다.
-   */
-  public String getUsernameFromToken(String token) {
-    Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-    return claims.getSubject();
-  }
 
-  /**
-   * JWT 토큰에서 만료 날짜를 추출합니다.
-   */
-  public LocalDateTime getExpiryDateFromToken(String token) {
-    Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-    Date expiration = claims.getExpiration();
-    return expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+    ParsedToken parsed = verify(token);
+    if (parsed.isValid()) {
+      verifiedTokenCache.put(token, parsed);
+    }
+    return parsed;
   }
 
-  /**
-   * 주어진 JWT 토큰이 만료되었는지 확인합니다.
-   */
-  public boolean isTokenExpired(String token) {
-    LocalDateTime expiryDate = getExpiryDateFromToken(token);
-    return expiryDate.isBefore(LocalDateTime.now());
+  private ParsedToken verify(String token) {
+    try {
+      Claims claims = parser.parseClaimsJws(token).getBody();
+      return ParsedToken.valid(claims.getSubject(), toLocalDateTime(claims.getExpiration()));
+    } catch (ExpiredJwtException e) {
+      // 서명 검증 이후에 만료를 확인하므로 만료된 토큰의 정보도 믿을 수 있음
+      return ParsedToken.expired(
+          e.getClaims().getSubject(), toLocalDateTime(e.getClaims().getExpiration())
+      );
+    } catch (JwtException | IllegalArgumentException e) {
+      return ParsedToken.invalid();
+    }
   }
 
   /**
    * 주어진 JWT 토큰이 블랙리스트에 있는지 확인합니다.
    */
   public boolean isTokenBlacklisted(String token) {
-    Optional<BlacklistedTokenEntity> blacklistedToken = blacklistRepository.findByToken(token);
-    return blacklistedToken.isPresent();
+    return redisTokenRepository.isBlacklisted(token);
   }
 
   /**
-   * 주어진 JWT 토큰을 블랙리스트에 추가합니다.
+   * 주어진 JWT 토큰을 블랙리스트에 추가합니다. 토큰이 만료될 때까지만 Redis 에 남습니다.
    */
   public void blacklistToken(String token) {
-    LocalDateTime expiryDate = getExpiryDateFromToken(token);
-    BlacklistedTokenEntity blacklistedTokenEntity = new BlacklistedTokenEntity();
-    blacklistedTokenEntity.setToken(token);
-    blacklistedTokenEntity.setExpiryDate(expiryDate);
-    blacklistRepository.save(blacklistedTokenEntity);
+    LocalDateTime expiryDate = parse(token).getExpiryDate();
+    verifiedTokenCache.invalidate(token);
+    if (expiryDate != null) {
+      redisTokenRepository.blacklist(token, expiryDate);
+    }
+  }
+
+  private LocalDateTime toLocalDateTime(Date date) {
+    return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
   }
-}
\ No newline at end of file
+}
@@ -1,10 +1,27 @@
 package com.project.trainingdiary.repository;
 
 import com.project.trainingdiary.entity.BlacklistedTokenEntity;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BlacklistRepository extends JpaRepository<BlacklistedTokenEntity, Long> {
 
   Optional<BlacklistedTokenEntity> findByToken(String token);
+
+  /**
+   * 아직 만료되지 않은 토큰. Redis 블랙리스트로 옮길 때 사용
+   */
+  List<BlacklistedTokenEntity> findByExpiryDateAfter(LocalDateTime now);
+
+  /**
+   * 만료된 토큰은 더 이상 사용할 수 없으므로 Redis 로 옮기지 않고 한 번에 지움
+   */
+  @Modifying
+  @Query("delete from blacklisted_token b where b.expiryDate < :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,45 @@
+package com.project.trainingdiary.repository;
+
+import com.project.trainingdiary.entity.ImageAssetEntity;
+import com.project.trainingdiary.model.type.ImageAssetType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ImageAssetRepository extends JpaRepository<ImageAssetEntity, Long> {
+
+  Optional<ImageAssetEntity> findFirstByAssetTypeAndContentHash(ImageAssetType assetType,
+      String contentHash);
+
+  Optional<ImageAssetEntity> findFirstByOriginalUrl(String originalUrl);
+
+  /**
+   * 참조 수를 1 증가. 이미 삭제 대상(참조 수 0)이 된 경우에는 갱신하지 않음
+   */
+  @Modifying
+  @Query("update image_asset a "
+      + "set a.referenceCount = a.referenceCount + 1 "
+      + "where a.id = ?1 "
+      + "and a.referenceCount > 0")
+  int incrementReferenceCount(long id);
+
+  /**
+   * 참조 수를 1 감소. 이미 참조 수가 0이면 갱신하지 않음
+   */
+  @Modifying
+  @Query("update image_asset a "
+      + "set a.referenceCount = a.referenceCount - 1 "
+      + "where a.id = ?1 "
+      + "and a.referenceCount > 0")
+  int decrementReferenceCount(long id);
+
+  /**
+   * 참조 수가 0인 경우에만 삭제. 동시에 호출되어도 한 요청만 삭제에 성공함
+   */
+  @Modifying
+  @Query("delete from image_asset a "
+      + "where a.id = ?1 "
+      + "and a.referenceCount = 0")
+  int deleteUnreferenced(long id);
+}
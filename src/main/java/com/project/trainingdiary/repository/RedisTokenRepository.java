@@ -1,16 +1,28 @@
 package com.project.trainingdiary.repository;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class RedisTokenRepository {
 
+  private static final String ACCESS_TOKEN_KEY_PREFIX = "accessToken:";
+  private static final String REFRESH_TOKEN_KEY_PREFIX = "refreshToken:";
+  private static final String BLACKLIST_KEY_PREFIX = "blacklist:";
+
   private final RedisTemplate<String, Object> redisTemplate;
 
   /**
@@ -22,31 +34,70 @@ public class RedisTokenRepository {
   }
 
   /**
-   * Redis에서 주어진 키로 토큰을 삭제합니다.
+   * Redis에 사용자 ID와 만료 시간과 함께 접근 토큰을 저장합니다. 이전 토큰은 덮어씁니다.
    */
-  public void deleteToken(String key) {
-    redisTemplate.delete(key);
+  public void saveAccessToken(String userId, String token, LocalDateTime expiryDateTime) {
+    saveToken(ACCESS_TOKEN_KEY_PREFIX + userId, token, expiryDateTime);
   }
 
   /**
-   * Redis에 사용자 ID와 만료 시간과 함께 접근 토큰을 저장합니다.
+   * 접근 토큰과 리프레시 토큰을 파이프라인으로 한 번에 저장합니다.
    */
-  public void saveAccessToken(String userId, String token, LocalDateTime expiryDateTime) {
-    saveToken("accessToken:" + userId, token, expiryDateTime);
+  public void saveTokens(
+      String userId,
+      String accessToken,
+      LocalDateTime accessTokenExpiryDateTime,
+      String refreshToken,
+      LocalDateTime refreshTokenExpiryDateTime
+  ) {
+    redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        ValueOperations<String, Object> ops =
+            ((RedisOperations<String, Object>) operations).opsForValue();
+        ops.set(ACCESS_TOKEN_KEY_PREFIX + userId, accessToken,
+            calculateExpiration(accessTokenExpiryDateTime), TimeUnit.SECONDS);
+        ops.set(REFRESH_TOKEN_KEY_PREFIX + userId, refreshToken,
+            calculateExpiration(refreshTokenExpiryDateTime), TimeUnit.SECONDS);
+        return null;
+      }
+    });
   }
 
   /**
-   * Redis에 사용자 ID와 만료 시간과 함께 리프레시 토큰을 저장합니다.
+   * 사용자의 접근 토큰과 리프레시 토큰을 한 번의 DEL 로 삭제합니다.
    */
-  public void saveRefreshToken(String userId, String token, LocalDateTime expiryDateTime) {
-    saveToken("refreshToken:" + userId, token, expiryDateTime);
+  public void deleteTokens(String userId) {
+    redisTemplate.delete(List.of(
+        ACCESS_TOKEN_KEY_PREFIX + userId,
+        REFRESH_TOKEN_KEY_PREFIX + userId
+    ));
   }
 
   /**
    * 주어진 접근 토큰이 유효한지 확인합니다.
    */
   public boolean isAccessTokenValid(String token) {
-    return Boolean.TRUE.equals(redisTemplate.hasKey("accessToken:" + token));
+    return Boolean.TRUE.equals(redisTemplate.hasKey(ACCESS_TOKEN_KEY_PREFIX + token));
+  }
+
+  /**
+   * 토큰을 블랙리스트에 추가합니다. 키는 토큰의 SHA-256 값이고, 토큰이 만료되면 함께 사라집니다.
+   */
+  public void blacklist(String token, LocalDateTime expiryDateTime) {
+    long expiration = calculateExpiration(expiryDateTime);
+    if (expiration <= 0) {
+      return;
+    }
+    redisTemplate.opsForValue().set(blacklistKey(token), true, expiration, TimeUnit.SECONDS);
+  }
+
+  /**
+   * 토큰이 블랙리스트에 있는지 확인합니다.
+   */
+  public boolean isBlacklisted(String token) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(token)));
   }
 
   /**
@@ -56,4 +107,14 @@ public class RedisTokenRepository {
     return expiryDateTime.atZone(ZoneId.systemDefault()).toEpochSecond()
         - LocalDateTime.now().atZone(ZoneId.systemDefault()).toEpochSecond();
   }
-}
\ No newline at end of file
+
+  private String blacklistKey(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return BLACKLIST_KEY_PREFIX + HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
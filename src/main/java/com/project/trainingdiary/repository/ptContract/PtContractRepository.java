@@ -1,8 +1,10 @@
 package com.project.trainingdiary.repository.ptContract;
 
 import com.project.trainingdiary.entity.PtContractEntity;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -43,6 +45,53 @@ public interface PtContractRepository extends JpaRepository<PtContractEntity, Lo
       + "and p.isTerminated = false")
   Optional<PtContractEntity> findByTraineeId(long traineeId);
 
+  @Query("select p.trainer.id "
+      + "from pt_contract p "
+      + "where p.trainee.id = ?1 "
+      + "and p.isTerminated = false")
+  Optional<Long> findTrainerIdByTraineeId(long traineeId);
+
+  /**
+   * 남은 횟수가 count 이상일 때만 사용 횟수를 늘림. 남은 횟수가 부족하면 0을 반환
+   */
+  @Modifying
+  @Query("update pt_contract p "
+      + "set p.usedSession = p.usedSession + ?2, "
+      + "p.version = p.version + 1 "
+      + "where p.id = ?1 "
+      + "and p.totalSession - p.usedSession >= ?2")
+  int useSessions(long ptContractId, int count);
+
+  /**
+   * DB에 반영된 남은 횟수. 조건부 UPDATE로 차감한 뒤 엔티티를 다시 읽지 않고 조회할 때 사용
+   */
+  @Query("select p.totalSession - p.usedSession "
+      + "from pt_contract p "
+      + "where p.id = ?1")
+  int findRemainingSession(long ptContractId);
+
+  /**
+   * 사용 횟수를 1 줄임
+   */
+  @Modifying
+  @Query("update pt_contract p "
+      + "set p.usedSession = p.usedSession - 1, "
+      + "p.version = p.version + 1 "
+      + "where p.id = ?1 "
+      + "and p.usedSession > 0")
+  int restoreSession(long ptContractId);
+
+  /**
+   * 전체 횟수를 늘림
+   */
+  @Modifying
+  @Query("update pt_contract p "
+      + "set p.totalSession = p.totalSession + ?2, "
+      + "p.totalSessionUpdatedAt = ?3, "
+      + "p.version = p.version + 1 "
+      + "where p.id = ?1")
+  int addSession(long ptContractId, int addition, LocalDateTime updatedAt);
+
   @Query("SELECT ptc FROM pt_contract ptc " +
       "LEFT JOIN FETCH ptc.trainee t " +
       "LEFT JOIN FETCH t.inBodyRecords ir " +
@@ -1,10 +1,12 @@
 package com.project.trainingdiary.repository.schedule;
 
+import com.project.trainingdiary.entity.PtContractEntity;
 import com.project.trainingdiary.entity.ScheduleEntity;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -55,4 +57,48 @@ public interface ScheduleRepository extends JpaRepository<ScheduleEntity, Long>,
       @Param("traineeId") long traineeId,
       @Param("startAt") LocalDateTime startAt
   );
+
+  /**
+   * 트레이너의 기간 내 OPEN 일정 시작 시간. 예약 가능 시간 인덱스를 채울 때 사용
+   */
+  @Query("select s.startAt "
+      + "from schedule s "
+      + "where s.trainer.id = :id "
+      + "and s.startAt >= :startAt1 "
+      + "and s.startAt < :startAt2 "
+      + "and s.scheduleStatusType = com.project.trainingdiary.model.type.ScheduleStatusType.OPEN")
+  List<LocalDateTime> findOpenStartTimes(
+      @Param("id") long id,
+      @Param("startAt1") LocalDateTime startAt1,
+      @Param("startAt2") LocalDateTime startAt2
+  );
+
+  @Query("select s "
+      + "from schedule s "
+      + "where s.trainer.id = :id "
+      + "and s.startAt in :startTimes "
+      + "and s.scheduleStatusType = com.project.trainingdiary.model.type.ScheduleStatusType.OPEN "
+      + "order by s.startAt")
+  List<ScheduleEntity> findOpenByStartTimes(
+      @Param("id") long id,
+      @Param("startTimes") List<LocalDateTime> startTimes
+  );
+
+  /**
+   * OPEN 상태인 일정만 예약 신청 상태로 바꿈. 다른 요청이 먼저 바꿨다면 0을 반환
+   * <p>
+   * 엔티티로 일정을 수정하는 다른 요청이 충돌을 알 수 있도록 버전도 올림. 영속성 컨텍스트의 일정은 이전 버전이 되므로 실행 후 비움
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("update schedule s "
+      + "set s.scheduleStatusType = "
+      + "com.project.trainingdiary.model.type.ScheduleStatusType.RESERVE_APPLIED, "
+      + "s.ptContract = :ptContract, "
+      + "s.version = s.version + 1 "
+      + "where s.id = :id "
+      + "and s.scheduleStatusType = com.project.trainingdiary.model.type.ScheduleStatusType.OPEN")
+  int claimOpenSchedule(
+      @Param("id") long id,
+      @Param("ptContract") PtContractEntity ptContract
+  );
 }
@@ -1,26 +1,24 @@
 package com.project.trainingdiary.repository.schedule;
 
+import static com.project.trainingdiary.entity.QPtContractEntity.ptContractEntity;
 import static com.project.trainingdiary.entity.QScheduleEntity.scheduleEntity;
-import static com.querydsl.core.types.dsl.Expressions.dateTemplate;
+import static com.project.trainingdiary.entity.QTraineeEntity.traineeEntity;
+import static com.project.trainingdiary.entity.QTrainerEntity.trainerEntity;
 
 import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
+import com.project.trainingdiary.model.ScheduleCalendarRow;
 import com.project.trainingdiary.model.ScheduleResponseDetail;
 import com.project.trainingdiary.model.type.ScheduleStatusType;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
-import com.querydsl.core.types.ConstantImpl;
-import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.FlushModeType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.SortedMap;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
 @AllArgsConstructor
 public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
@@ -36,8 +34,8 @@ public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
       LocalDateTime startDateTime,
       LocalDateTime endDateTime
   ) {
-    List<Tuple> list = getScheduleList(trainerId, null, startDateTime, endDateTime);
-    return convertToScheduleResponseDto(getDateSortedMap(list, null));
+    List<ScheduleCalendarRow> rows = getScheduleList(trainerId, null, startDateTime, endDateTime);
+    return groupByDate(rows, null);
   }
 
   /**
@@ -51,111 +49,100 @@ public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
       LocalDateTime startDateTime,
       LocalDateTime endDateTime
   ) {
-    List<Tuple> list = getScheduleList(currentTrainerId, traineeId, startDateTime, endDateTime);
-    return convertToScheduleResponseDto(getDateSortedMap(list, traineeId));
+    List<ScheduleCalendarRow> rows = getScheduleList(
+        currentTrainerId, traineeId, startDateTime, endDateTime
+    );
+    return groupByDate(rows, traineeId);
   }
 
   /**
    * 트레이너와 트레이니의 모든 일정을 조회
+   * <p>
+   * 날짜 포맷팅은 DB 함수에 맡기지 않고 startAt 을 그대로 가져옴(MariaDB, H2 모두에서 동작)
+   * <p>
+   * 엔티티를 영속성 컨텍스트에 올리지 않는 DTO 프로젝션이고, 조회 전에 자동 flush 도 하지 않음
    */
-  private List<Tuple> getScheduleList(
+  private List<ScheduleCalendarRow> getScheduleList(
       Long trainerId,
       Long traineeId,
       LocalDateTime startDateTime,
       LocalDateTime endDateTime
   ) {
     return queryFactory
-        .select(
-            scheduleEntity,
+        .select(Projections.constructor(
+            ScheduleCalendarRow.class,
             scheduleEntity.id,
-            startDate(),
-            startTime(),
+            scheduleEntity.startAt,
             scheduleEntity.scheduleStatusType,
-            scheduleEntity.trainer.id,
-            scheduleEntity.trainer.name,
-            scheduleEntity.ptContract.trainee.id,
-            scheduleEntity.ptContract.trainee.name
-        )
+            trainerEntity.id,
+            trainerEntity.name,
+            traineeEntity.id,
+            traineeEntity.name
+        ))
         .from(scheduleEntity)
-        .join(scheduleEntity.trainer).fetchJoin()
+        .join(scheduleEntity.trainer, trainerEntity)
         // status가 OPEN일 때는 ptContract가 없지만, 그 경우도 모두 찾아야 하므로 left join
-        .leftJoin(scheduleEntity.ptContract).fetchJoin()
-        .leftJoin(scheduleEntity.ptContract.trainee).fetchJoin()
+        .leftJoin(scheduleEntity.ptContract, ptContractEntity)
+        .leftJoin(ptContractEntity.trainee, traineeEntity)
         .where(
             getTrainerOrTrainee(trainerId, traineeId),
             scheduleEntity.startAt.between(startDateTime, endDateTime)
         )
         .orderBy(scheduleEntity.startAt.asc())
+        .setFlushMode(FlushModeType.COMMIT)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
         .fetch();
   }
 
   /**
-   * 날짜별로 결과를 묶기(날짜로 정렬)
+   * startAt 순으로 정렬된 결과를 한 번만 순회하면서 날짜별로 묶어 DTO로 변환
    */
-  private SortedMap<String, List<Tuple>> getDateSortedMap(
-      List<Tuple> results,
+  private List<ScheduleResponseDto> groupByDate(
+      List<ScheduleCalendarRow> rows,
       Long includeOnlyThisTraineeId
   ) {
-    SortedMap<String, List<Tuple>> groupedByDate = new TreeMap<>();
-    for (Tuple tuple : results) {
-      String date = tuple.get(startDate());
-      List<Tuple> timeList = groupedByDate.getOrDefault(date, new ArrayList<>());
-      if (scheduleIncluded(tuple, includeOnlyThisTraineeId)) {
-        timeList.add(tuple);
-        groupedByDate.put(date, timeList);
+    List<ScheduleResponseDto> result = new ArrayList<>();
+    ScheduleResponseDto current = null;
+    for (ScheduleCalendarRow row : rows) {
+      if (!scheduleIncluded(row, includeOnlyThisTraineeId)) {
+        continue;
       }
-    }
-    return groupedByDate;
-  }
-
-  /**
-   * 날짜별로 묶인 결과를 DTO에 맞게 변형
-   */
-  private List<ScheduleResponseDto> convertToScheduleResponseDto(
-      SortedMap<String, List<Tuple>> groupedByDate
-  ) {
-    return groupedByDate.entrySet().stream()
-        .map(entry -> {
-          List<Tuple> tuples = entry.getValue();
-
-          // 해당 날짜
-          LocalDate date = LocalDate.parse(entry.getKey());
 
-          // 해당 날짜 안의 각 시간 정보
-          List<ScheduleResponseDetail> details = tuples.stream()
-              .map(tuple -> ScheduleResponseDetail.builder()
-                  .scheduleId(tuple.get(scheduleEntity.id))
-                  .trainerId(tuple.get(scheduleEntity.trainer.id))
-                  .trainerName(tuple.get(scheduleEntity.trainer.name))
-                  .traineeId(tuple.get(scheduleEntity.ptContract.trainee.id))
-                  .traineeName(tuple.get(scheduleEntity.ptContract.trainee.name))
-                  .startTime(LocalTime.parse(Objects.requireNonNull(tuple.get(startTime()))))
-                  .scheduleStatus(tuple.get(scheduleEntity.scheduleStatusType))
-                  .build()
-              )
-              .collect(Collectors.toList());
-
-          // 해당 날짜에 예약이 존재하는지 검사
-          boolean existReserved = details.stream()
-              .anyMatch(detail -> detail.getScheduleStatus() == ScheduleStatusType.RESERVED);
+      LocalDate date = row.getStartAt().toLocalDate();
+      if (current == null || !current.getStartDate().equals(date)) {
+        current = ScheduleResponseDto.builder()
+            .startDate(date)
+            .details(new ArrayList<>())
+            .build();
+        result.add(current);
+      }
 
-          return ScheduleResponseDto.builder()
-              .startDate(date)
-              .existReserved(existReserved)
-              .details(details)
-              .build();
-        })
-        .collect(Collectors.toList());
+      current.getDetails().add(ScheduleResponseDetail.builder()
+          .scheduleId(row.getScheduleId())
+          .trainerId(row.getTrainerId())
+          .trainerName(row.getTrainerName())
+          .traineeId(row.getTraineeId())
+          .traineeName(row.getTraineeName())
+          .startTime(row.getStartAt().toLocalTime())
+          .scheduleStatus(row.getScheduleStatus())
+          .build());
+
+      // 해당 날짜에 예약이 존재하는지 검사
+      if (row.getScheduleStatus() == ScheduleStatusType.RESERVED) {
+        current.setExistReserved(true);
+      }
+    }
+    return result;
   }
 
   /**
    * 일정이 최종 출력에 포함되어야 하는지 결정
    */
-  private boolean scheduleIncluded(Tuple tuple, Long includeOnlyThisTraineeId) {
+  private boolean scheduleIncluded(ScheduleCalendarRow row, Long includeOnlyThisTraineeId) {
     if (includeOnlyThisTraineeId == null) {
       return true;
     }
-    Long traineeId = tuple.get(scheduleEntity.ptContract.trainee.id);
+    Long traineeId = row.getTraineeId();
     if (traineeId != null) { // 특정 트레이니와 예약이 된 일정인 경우
       return traineeId.equals(includeOnlyThisTraineeId);
     } else { // 특정 트레이니와 예약되지 않은 경우(= 일정 상태가 OPEN 인 경우)
@@ -166,30 +153,11 @@ public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
   private BooleanBuilder getTrainerOrTrainee(Long trainerId, Long traineeId) {
     BooleanBuilder builder = new BooleanBuilder();
     if (trainerId != null) {
-      builder.or(scheduleEntity.trainer.id.eq(trainerId));
+      builder.or(trainerEntity.id.eq(trainerId));
     }
     if (traineeId != null) {
-      builder.or(scheduleEntity.ptContract.trainee.id.eq(traineeId));
+      builder.or(traineeEntity.id.eq(traineeId));
     }
     return builder;
   }
-
-  // date_format 함수는 MariaDB에서 동작함(H2에서 동작하지 않는 게 확인됨)
-  private DateExpression<String> startDate() {
-    return dateTemplate(
-        String.class,
-        "date_format({0}, {1})",
-        scheduleEntity.startAt,
-        ConstantImpl.create("%Y-%m-%d")
-    ).as("startDate");
-  }
-
-  private DateExpression<String> startTime() {
-    return dateTemplate(
-        String.class,
-        "date_format({0}, {1})",
-        scheduleEntity.startAt,
-        ConstantImpl.create("%H:%i") // H는 24시간 기준 2자리. i는 분 2자리
-    ).as("startTime");
-  }
 }
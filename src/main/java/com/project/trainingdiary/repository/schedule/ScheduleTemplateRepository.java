@@ -0,0 +1,59 @@
+package com.project.trainingdiary.repository.schedule;
+
+import com.project.trainingdiary.entity.ScheduleTemplateEntity;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ScheduleTemplateRepository extends JpaRepository<ScheduleTemplateEntity, Long> {
+
+  /**
+   * 아직 일정이 모두 생성되지 않은 트레이너의 반복 일정
+   */
+  @Query("select t "
+      + "from schedule_template t "
+      + "where t.trainer.id = :trainerId "
+      + "and t.materializedUntil < t.endDate")
+  List<ScheduleTemplateEntity> findPending(@Param("trainerId") long trainerId);
+
+  /**
+   * 기간이 startDate ~ endDate 와 겹치는 트레이너의 반복 일정
+   */
+  @Query("select t "
+      + "from schedule_template t "
+      + "where t.trainer.id = :trainerId "
+      + "and t.startDate <= :endDate "
+      + "and t.endDate >= :startDate")
+  List<ScheduleTemplateEntity> findOverlapping(
+      @Param("trainerId") long trainerId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate
+  );
+
+  /**
+   * until 이전에 생성할 일정이 남은 반복 일정을 잠금. 동시에 같은 일정을 두 번 생성하지 않도록 함
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select t "
+      + "from schedule_template t "
+      + "where t.trainer.id = :trainerId "
+      + "and t.materializedUntil < t.endDate "
+      + "and t.materializedUntil < :until")
+  List<ScheduleTemplateEntity> findPendingForUpdate(
+      @Param("trainerId") long trainerId,
+      @Param("until") LocalDate until
+  );
+
+  /**
+   * until 이전에 생성할 일정이 남은 반복 일정이 있는 트레이너
+   */
+  @Query("select distinct t.trainer.id "
+      + "from schedule_template t "
+      + "where t.materializedUntil < t.endDate "
+      + "and t.materializedUntil < :until")
+  List<Long> findPendingTrainerIds(@Param("until") LocalDate until);
+}
@@ -1,10 +1,10 @@
 package com.project.trainingdiary.security;
 
+import com.project.trainingdiary.model.ParsedToken;
 import com.project.trainingdiary.provider.CookieProvider;
 import com.project.trainingdiary.provider.TokenProvider;
 import com.project.trainingdiary.repository.RedisTokenRepository;
 import com.project.trainingdiary.service.UserService;
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -35,6 +35,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   /**
    * JWT 토큰을 검증하는 필터입니다. 접근 토큰이 만료된 경우, 리프레시 토큰을 사용하여 토큰을 재발급 시도합니다.
+   * <p>
+   * 각 토큰은 요청마다 한 번만 파싱하고, 그 결과를 이후 처리에 넘겨줍니다.
    */
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -45,8 +47,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     if (accessToken != null) {
       handleAccessToken(request, response, accessToken, refreshToken);
-    } else if (refreshToken != null && tokenProvider.validateToken(refreshToken)) {
-      handleRefreshToken(request, response, refreshToken);
+    } else if (refreshToken != null) {
+      ParsedToken parsedRefreshToken = tokenProvider.parse(refreshToken);
+      if (parsedRefreshToken.isValid()) {
+        handleRefreshToken(request, response, refreshToken, parsedRefreshToken);
+      }
     }
 
     chain.doFilter(request, response);
@@ -57,14 +62,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
    */
   private void handleAccessToken(HttpServletRequest request, HttpServletResponse response,
       String accessToken, String refreshToken) throws IOException {
-    try {
-      if (tokenProvider.validateToken(accessToken) && !redisTokenRepository.isAccessTokenValid(
-          accessToken)) {
-        authenticateUser(accessToken, request);
-      } else if (tokenProvider.isTokenExpired(accessToken)) {
-        handleExpiredAccessToken(request, response, refreshToken);
-      }
-    } catch (ExpiredJwtException ex) {
+    ParsedToken parsedAccessToken = tokenProvider.parse(accessToken);
+    if (parsedAccessToken.isValid() && !redisTokenRepository.isAccessTokenValid(accessToken)) {
+      authenticateUser(parsedAccessToken.getSubject(), request);
+    } else if (parsedAccessToken.isExpired()) {
       log.info("접근 토큰이 만료되었습니다. 리프레시 시도 중...");
       handleExpiredAccessToken(request, response, refreshToken);
     }
@@ -75,8 +76,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
    */
   private void handleExpiredAccessToken(HttpServletRequest request, HttpServletResponse response,
       String refreshToken) throws IOException {
-    if (refreshToken != null && tokenProvider.validateToken(refreshToken)) {
-      handleRefreshToken(request, response, refreshToken);
+    ParsedToken parsedRefreshToken = refreshToken == null
+        ? ParsedToken.invalid()
+        : tokenProvider.parse(refreshToken);
+    if (parsedRefreshToken.isValid()) {
+      handleRefreshToken(request, response, refreshToken, parsedRefreshToken);
     } else {
       log.warn("유효하지 않거나 누락된 리프레시 토큰");
     }
@@ -86,31 +90,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
    * 리프레시 토큰을 처리합니다. 리프레시 토큰이 유효한 경우, 새로운 접근 토큰을 발급하고 사용자 인증을 수행합니다.
    */
   private void handleRefreshToken(HttpServletRequest request, HttpServletResponse response,
-      String refreshToken) throws IOException {
+      String refreshToken, ParsedToken parsedRefreshToken) throws IOException {
     if (tokenProvider.isTokenBlacklisted(refreshToken)) {
       log.warn("리프레시 토큰이 블랙리스트에 있습니다.");
       response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "리프레시 토큰이 블랙리스트에 있습니다.");
       return;
     }
 
-    String username = tokenProvider.getUsernameFromToken(refreshToken);
+    String username = parsedRefreshToken.getSubject();
     UserDetails userDetails = userService.loadUserByUsername(username);
 
     if (userDetails != null) {
-      String previousAccessTokenKey = "accessToken:" + username;
-
-      redisTokenRepository.deleteToken(previousAccessTokenKey);
-
       String newAccessToken = tokenProvider.createAccessToken(username);
       log.info("새로운 접근 토큰을 쿠키에 설정: {}", newAccessToken);
 
+      // 방금 만든 토큰이므로 만료 날짜만 한 번 읽어서 쿠키와 Redis 에 같이 사용
+      ParsedToken parsedAccessToken = tokenProvider.parse(newAccessToken);
       boolean isLocal = userService.isLocalRequest(request);
 
       cookieProvider.setCookie(response, ACCESS_TOKEN_COOKIE_NAME, newAccessToken,
-          tokenProvider.getExpiryDateFromToken(newAccessToken), isLocal);
+          parsedAccessToken.getExpiryDate(), isLocal);
+      // 이전 접근 토큰은 SET 으로 덮어쓰므로 따로 지우지 않음
       redisTokenRepository.saveAccessToken(username, newAccessToken,
-          tokenProvider.getExpiryDateFromToken(newAccessToken));
-      authenticateUser(newAccessToken, request);
+          parsedAccessToken.getExpiryDate());
+      authenticateUser(userDetails, request);
     } else {
       log.warn("사용자 정보를 찾을 수 없습니다.");
       response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "사용자 정보를 찾을 수 없습니다.");
@@ -118,20 +121,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   }
 
   /**
-   * 사용자 인증을 수행합니다. 주어진 토큰을 사용하여 사용자를 인증하고, 인증 컨텍스트에 설정합니다.
+   * 사용자 인증을 수행합니다. 토큰에서 읽은 사용자 이름으로 사용자를 찾아 인증 컨텍스트에 설정합니다.
    */
-  private void authenticateUser(String token, HttpServletRequest request) {
-    String username = tokenProvider.getUsernameFromToken(token);
+  private void authenticateUser(String username, HttpServletRequest request) {
     UserDetails userDetails = userService.loadUserByUsername(username);
     if (userDetails != null) {
-      UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-          userDetails, null, userDetails.getAuthorities());
-      authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-      SecurityContextHolder.getContext().setAuthentication(authentication);
-      log.info("사용자: {} Role: {}", username, authentication.getAuthorities().toString());
+      authenticateUser(userDetails, request);
     }
   }
 
+  private void authenticateUser(UserDetails userDetails, HttpServletRequest request) {
+    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+        userDetails, null, userDetails.getAuthorities());
+    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+    log.info("사용자: {} Role: {}", userDetails.getUsername(),
+        authentication.getAuthorities().toString());
+  }
+
   /**
    * 요청에서 지정된 이름의 쿠키를 파싱합니다. 쿠키가 존재하면 해당 쿠키의 값을 반환합니다.
    */
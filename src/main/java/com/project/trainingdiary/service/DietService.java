@@ -1,10 +1,14 @@
 package com.project.trainingdiary.service;
 
+import static com.project.trainingdiary.model.type.ImageAssetType.DIET;
+
 import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.component.ThumbnailEncoder;
 import com.project.trainingdiary.dto.request.diet.CreateDietRequestDto;
 import com.project.trainingdiary.dto.response.diet.DietDetailsInfoResponseDto;
 import com.project.trainingdiary.dto.response.diet.DietImageResponseDto;
 import com.project.trainingdiary.entity.DietEntity;
+import com.project.trainingdiary.entity.ImageAssetEntity;
 import com.project.trainingdiary.entity.TraineeEntity;
 import com.project.trainingdiary.entity.TrainerEntity;
 import com.project.trainingdiary.exception.diet.DietNotExistException;
@@ -22,6 +26,7 @@ import com.project.trainingdiary.repository.ptContract.PtContractRepository;
 import com.project.trainingdiary.util.ConvertCloudFrontUrlUtil;
 import com.project.trainingdiary.util.MediaUtil;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -43,6 +48,8 @@ public class DietService {
   private final PtContractRepository ptContractRepository;
 
   private final S3DietImageProvider s3DietImageProvider;
+  private final ImageAssetService imageAssetService;
+  private final ThumbnailEncoder thumbnailEncoder;
 
   private final Cache<String, UserPrincipal> userCache;
 
@@ -59,16 +66,31 @@ public class DietService {
     MultipartFile imageFile = dto.getImage();
     validateImageFileType(imageFile);
 
-    String originalUrl = s3DietImageProvider.uploadImageToS3(imageFile);
-    String extension = MediaUtil.getExtension(MediaUtil.checkFileNameExist(imageFile));
-    String thumbnailUrl = s3DietImageProvider.uploadThumbnailToS3(imageFile, originalUrl,
-        extension);
+    // 같은 내용의 사진이 이미 업로드되어 있으면 리사이즈와 업로드 없이 재사용
+    String contentHash = MediaUtil.sha256(imageFile);
+    Optional<ImageAssetEntity> imageAsset = imageAssetService.reuse(DIET, contentHash);
+
+    String originalUrl;
+    String thumbnailUrl;
+    String thumbnailFormat;
+    if (imageAsset.isPresent()) {
+      originalUrl = imageAsset.get().getOriginalUrl();
+      thumbnailUrl = imageAsset.get().getThumbnailUrl();
+      thumbnailFormat = imageAsset.get().getThumbnailFormat();
+    } else {
+      originalUrl = s3DietImageProvider.uploadImageToS3(imageFile);
+      String extension = MediaUtil.getExtension(MediaUtil.checkFileNameExist(imageFile));
+      thumbnailUrl = s3DietImageProvider.uploadThumbnailToS3(imageFile, originalUrl, extension);
+      thumbnailFormat = thumbnailEncoder.getFormatName();
+      imageAssetService.register(DIET, contentHash, originalUrl, thumbnailUrl, thumbnailFormat);
+    }
 
     DietEntity diet = new DietEntity();
     diet.setTrainee(trainee);
     diet.setContent(dto.getContent());
     diet.setOriginalUrl(originalUrl);
     diet.setThumbnailUrl(thumbnailUrl);
+    diet.setThumbnailFormat(thumbnailFormat);
 
     dietRepository.save(diet);
   }
@@ -290,6 +312,10 @@ public class DietService {
    * @param diet 다이어트 엔티티
    */
   private void deleteDietImages(DietEntity diet) {
+    // 같은 사진을 참조하는 식단이 남아 있으면 S3 객체는 삭제하지 않음
+    if (!imageAssetService.release(diet.getOriginalUrl())) {
+      return;
+    }
     s3DietImageProvider.deleteFileFromS3(diet.getOriginalUrl());
     s3DietImageProvider.deleteFileFromS3(diet.getThumbnailUrl());
   }
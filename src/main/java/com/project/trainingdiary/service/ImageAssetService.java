@@ -0,0 +1,90 @@
+package com.project.trainingdiary.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.entity.ImageAssetEntity;
+import com.project.trainingdiary.model.type.ImageAssetType;
+import com.project.trainingdiary.repository.ImageAssetRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 내용의 이미지가 다시 업로드되면 이미 만들어 둔 S3 객체를 재사용하고, 참조 수로 삭제 시점을 관리함
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageAssetService {
+
+  private final ImageAssetRepository imageAssetRepository;
+
+  // "타입:해시" -> 이미지 에셋. id 와 URL 만 사용하며 참조 수는 항상 DB 에서 갱신함
+  private final Cache<String, ImageAssetEntity> imageAssetCache;
+
+  /**
+   * 같은 내용의 이미지가 이미 있으면 참조 수를 늘리고 반환
+   */
+  @Transactional
+  public Optional<ImageAssetEntity> reuse(ImageAssetType assetType, String contentHash) {
+    String cacheKey = cacheKey(assetType, contentHash);
+
+    ImageAssetEntity cached = imageAssetCache.getIfPresent(cacheKey);
+    if (cached != null) {
+      if (imageAssetRepository.incrementReferenceCount(cached.getId()) > 0) {
+        return Optional.of(cached);
+      }
+      imageAssetCache.invalidate(cacheKey);
+    }
+
+    Optional<ImageAssetEntity> imageAsset = imageAssetRepository
+        .findFirstByAssetTypeAndContentHash(assetType, contentHash)
+        .filter(asset -> imageAssetRepository.incrementReferenceCount(asset.getId()) > 0);
+    imageAsset.ifPresent(asset -> imageAssetCache.put(cacheKey, asset));
+    return imageAsset;
+  }
+
+  /**
+   * 새로 업로드한 이미지를 참조 수 1로 등록
+   */
+  @Transactional
+  public void register(ImageAssetType assetType, String contentHash, String originalUrl,
+      String thumbnailUrl, String thumbnailFormat) {
+    ImageAssetEntity imageAsset = ImageAssetEntity.builder()
+        .assetType(assetType)
+        .contentHash(contentHash)
+        .originalUrl(originalUrl)
+        .thumbnailUrl(thumbnailUrl)
+        .thumbnailFormat(thumbnailFormat)
+        .referenceCount(1)
+        .build();
+    imageAssetRepository.save(imageAsset);
+  }
+
+  /**
+   * 참조 수를 줄이고, S3 객체를 삭제해도 되는지 반환
+   * <p>
+   * 조건부 갱신과 삭제의 결과로 판단하므로, 동시에 호출되어도 에셋을 삭제한 요청 하나만 true 를 받음.
+   * 에셋으로 관리되지 않는 이전 이미지는 항상 삭제 가능
+   */
+  @Transactional
+  public boolean release(String originalUrl) {
+    Optional<ImageAssetEntity> imageAsset = imageAssetRepository
+        .findFirstByOriginalUrl(originalUrl);
+    if (imageAsset.isEmpty()) {
+      return true;
+    }
+
+    ImageAssetEntity asset = imageAsset.get();
+    if (imageAssetRepository.decrementReferenceCount(asset.getId()) == 0
+        || imageAssetRepository.deleteUnreferenced(asset.getId()) == 0) {
+      return false;
+    }
+
+    imageAssetCache.invalidate(cacheKey(asset.getAssetType(), asset.getContentHash()));
+    return true;
+  }
+
+  private String cacheKey(ImageAssetType assetType, String contentHash) {
+    return assetType + ":" + contentHash;
+  }
+}
@@ -1,6 +1,8 @@
 package com.project.trainingdiary.service;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
 import com.project.trainingdiary.dto.request.ptcontract.AddPtContractSessionRequestDto;
 import com.project.trainingdiary.dto.request.ptcontract.CreatePtContractRequestDto;
 import com.project.trainingdiary.dto.request.ptcontract.TerminatePtContractRequestDto;
@@ -8,7 +10,6 @@ import com.project.trainingdiary.dto.response.ptcontract.CreatePtContractRespons
 import com.project.trainingdiary.dto.response.ptcontract.PtContractResponseDto;
 import com.project.trainingdiary.entity.NotificationEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
-import com.project.trainingdiary.entity.ScheduleEntity;
 import com.project.trainingdiary.entity.TraineeEntity;
 import com.project.trainingdiary.entity.TrainerEntity;
 import com.project.trainingdiary.exception.notification.UnsupportedNotificationTypeException;
@@ -46,6 +47,8 @@ public class PtContractService {
   private final NotificationRepository notificationRepository;
   private final FcmPushNotification fcmPushNotification;
   private final ScheduleRepository scheduleRepository;
+  private final ScheduleCalendarCache scheduleCalendarCache;
+  private final ScheduleAvailabilityIndex scheduleAvailabilityIndex;
 
   /**
    * PT 계약 생성
@@ -68,6 +71,8 @@ public class PtContractService {
     // 새로운 PT 계약을 생성
     PtContractEntity ptContract = PtContractEntity.of(trainer, trainee, 0);
     ptContractRepository.save(ptContract);
+    // 트레이니의 캘린더에 새 트레이너의 일정이 보이도록 캐시를 비움
+    scheduleCalendarCache.evictAll(null, trainee.getId());
 
     NotificationEntity notification = saveNotification(
         NotificationType.PT_CONTRACT_CREATED,
@@ -95,6 +100,7 @@ public class PtContractService {
   /**
    * PT 계약 횟수를 업데이트 함
    */
+  @Transactional
   public void addPtContractSession(AddPtContractSessionRequestDto dto) {
     TrainerEntity trainer = getTrainer();
 
@@ -103,8 +109,7 @@ public class PtContractService {
         .findByTrainerIdAndTraineeId(trainer.getId(), dto.getTraineeId())
         .orElseThrow(PtContractNotExistException::new);
 
-    ptContract.addSession(dto.getAddition());
-    ptContractRepository.save(ptContract);
+    ptContractRepository.addSession(ptContract.getId(), dto.getAddition(), LocalDateTime.now());
   }
 
   /**
@@ -122,11 +127,17 @@ public class PtContractService {
             ptContract.getTrainee().getId(),
             now
         )
-        .forEach(ScheduleEntity::cancel);
+        .forEach(schedule -> {
+          schedule.cancel();
+          scheduleAvailabilityIndex.update(schedule);
+        });
 
     // PT 계약을 종료
     ptContract.terminate();
     ptContractRepository.save(ptContract);
+    scheduleCalendarCache.evictAll(
+        ptContract.getTrainer().getId(), ptContract.getTrainee().getId()
+    );
   }
 
   private TrainerEntity getTrainer() {
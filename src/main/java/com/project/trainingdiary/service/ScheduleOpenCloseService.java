@@ -3,12 +3,17 @@ package com.project.trainingdiary.service;
 import static com.project.trainingdiary.model.type.NotificationType.RESERVATION_REGISTERED;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
+import com.project.trainingdiary.component.ScheduleTemplateMaterializer;
+import com.project.trainingdiary.dto.request.schedule.OpenRecurringScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.OpenScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.RegisterScheduleRequestDto;
 import com.project.trainingdiary.dto.response.schedule.RegisterScheduleResponseDto;
 import com.project.trainingdiary.entity.NotificationEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
 import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.ScheduleTemplateEntity;
 import com.project.trainingdiary.entity.TraineeEntity;
 import com.project.trainingdiary.entity.TrainerEntity;
 import com.project.trainingdiary.exception.notification.UnsupportedNotificationTypeException;
@@ -17,6 +22,7 @@ import com.project.trainingdiary.exception.ptcontract.PtContractNotExistExceptio
 import com.project.trainingdiary.exception.schedule.ScheduleAlreadyExistException;
 import com.project.trainingdiary.exception.schedule.ScheduleInvalidException;
 import com.project.trainingdiary.exception.schedule.ScheduleNotFoundException;
+import com.project.trainingdiary.exception.schedule.ScheduleRangeTooLongException;
 import com.project.trainingdiary.exception.schedule.ScheduleStatusNotOpenException;
 import com.project.trainingdiary.exception.user.UserNotFoundException;
 import com.project.trainingdiary.model.NotificationMessage;
@@ -27,13 +33,22 @@ import com.project.trainingdiary.repository.NotificationRepository;
 import com.project.trainingdiary.repository.TrainerRepository;
 import com.project.trainingdiary.repository.ptContract.PtContractRepository;
 import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.project.trainingdiary.repository.schedule.ScheduleTemplateRepository;
 import com.project.trainingdiary.util.NotificationMessageGeneratorUtil;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,11 +57,17 @@ import org.springframework.transaction.annotation.Transactional;
 @AllArgsConstructor
 public class ScheduleOpenCloseService {
 
+  private static final int MAX_RECURRING_DAYS = 180;
+
   private final ScheduleRepository scheduleRepository;
+  private final ScheduleTemplateRepository scheduleTemplateRepository;
   private final PtContractRepository ptContractRepository;
   private final TrainerRepository trainerRepository;
   private final NotificationRepository notificationRepository;
   private final FcmPushNotification fcmPushNotification;
+  private final ScheduleCalendarCache scheduleCalendarCache;
+  private final ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+  private final ScheduleTemplateMaterializer scheduleTemplateMaterializer;
 
   /**
    * 일정이 예약 가능하도록 열기
@@ -74,7 +95,57 @@ public class ScheduleOpenCloseService {
         })
         .toList();
 
-    scheduleRepository.saveAll(scheduleEntities);
+    try {
+      scheduleRepository.saveAll(scheduleEntities);
+    } catch (DataIntegrityViolationException e) {
+      // 확인한 뒤에 반복 일정이나 다른 요청으로 같은 시간의 일정이 생성됨
+      throw new ScheduleAlreadyExistException();
+    }
+    scheduleCalendarCache.evict(scheduleEntities);
+    scheduleEntities.forEach(scheduleAvailabilityIndex::update);
+  }
+
+  /**
+   * 매주 반복되는 일정을 열기
+   * <p>
+   * 요일과 시작 시간마다 반복 일정 하나만 저장하고, 실제 일정은 가까운 기간까지만 바로 생성함. 그 뒤의 일정은 매일 밤 생성되거나 예약할 때 생성됨.
+   * 일정을 직접 열 때와 같이, 이미 일정이 있거나 다른 반복 일정이 여는 시간과 겹치면 에러를 냄
+   */
+  @Transactional
+  public void createRecurringSchedule(OpenRecurringScheduleRequestDto dto, LocalDate today) {
+    TrainerEntity trainer = getTrainer();
+
+    if (dto.getEndDate().isBefore(dto.getStartDate())) {
+      throw new ScheduleInvalidException();
+    }
+    // 지난 날짜부터 열면 과거의 일정이 생성됨
+    if (dto.getStartDate().isBefore(today)) {
+      throw new ScheduleInvalidException();
+    }
+    if (ChronoUnit.DAYS.between(dto.getStartDate(), dto.getEndDate()) > MAX_RECURRING_DAYS) {
+      throw new ScheduleRangeTooLongException();
+    }
+
+    List<ScheduleTemplateEntity> templates = new ArrayList<>();
+    for (DayOfWeek dayOfWeek : dto.getDaysOfWeek().stream().distinct().toList()) {
+      for (LocalTime startTime : dto.getStartTimes().stream().distinct().toList()) {
+        templates.add(ScheduleTemplateEntity.of(
+            trainer, dayOfWeek, startTime, dto.getStartDate(), dto.getEndDate()
+        ));
+      }
+    }
+
+    List<LocalDateTime> requestedStartTimes = templates.stream()
+        .flatMap(template -> template.getPendingStartTimes(today, dto.getEndDate()).stream())
+        .toList();
+    if (isOccupied(trainer.getId(), requestedStartTimes, dto.getStartDate(), dto.getEndDate())) {
+      throw new ScheduleAlreadyExistException();
+    }
+
+    scheduleTemplateRepository.saveAll(templates);
+    scheduleTemplateMaterializer.materializeUpcoming(trainer.getId(), today);
+    scheduleCalendarCache.evictAll(trainer.getId(), null);
+    scheduleAvailabilityIndex.invalidate(trainer.getId());
   }
 
   /**
@@ -95,10 +166,14 @@ public class ScheduleOpenCloseService {
     }
 
     scheduleRepository.deleteAll(schedules);
+    scheduleCalendarCache.evict(schedules);
+    schedules.forEach(scheduleAvailabilityIndex::remove);
   }
 
   /**
    * 일정 확정 등록(트레이니의 신청 과정 없이 바로 등록함)
+   * <p>
+   * 요청 범위의 기존 일정을 한 번에 조회해서 메모리에서 검사하고, 새 일정과 기존 일정을 함께 저장함
    */
   @Transactional
   public RegisterScheduleResponseDto registerSchedule(RegisterScheduleRequestDto dto) {
@@ -106,90 +181,62 @@ public class ScheduleOpenCloseService {
     PtContractEntity ptContract = getPtContract(trainer.getId(), dto.getTraineeId());
 
     List<LocalDateTime> requestedStartTimes = getRequestedTimes(dto.getDateTimes());
-    Set<LocalDateTime> existingStartTimes = scheduleRepository.findScheduleDatesByDates(
-        trainer.getId(),
-        getEarliest(requestedStartTimes),
-        getLatest(requestedStartTimes)
-    );
-    existingStartTimes.retainAll(requestedStartTimes); // 요청한 것 중 존재하는 시간만 남김
 
-    // 남은 PT 횟수가 부족하면 에러를 냄
-    if (requestedStartTimes.size() > ptContract.getRemainingSession()) {
+    // 남은 PT 횟수가 부족하면 에러를 냄. 조건부 UPDATE 라서 동시에 차감되는 경우에도 음수가 되지 않음
+    if (ptContractRepository.useSessions(ptContract.getId(), requestedStartTimes.size()) == 0) {
       throw new PtContractNotEnoughSessionException();
     }
 
-    // 존재하지 않는 일정은 생성하기
-    List<ScheduleEntity> newSchedules = createNewSchedules(
-        requestedStartTimes, existingStartTimes, ptContract
-    );
+    // 반복 일정의 잠금을 잡고 요청 범위까지 일정을 먼저 생성해서, 같은 시간의 일정이 동시에 생성되지 않도록 함
+    LocalDateTime earliest = getEarliest(requestedStartTimes);
+    LocalDateTime latest = getLatest(requestedStartTimes);
+    scheduleTemplateMaterializer.materialize(trainer.getId(), latest.toLocalDate());
 
-    // 이미 존재하는 일정은 기존 일정을 사용해서 업데이트
-    List<ScheduleEntity> existingSchedules = updateExistingSchedules(
-        trainer.getId(), existingStartTimes, ptContract
-    );
+    Map<LocalDateTime, ScheduleEntity> schedulesByStartAt = scheduleRepository.findByDates(
+            trainer.getId(),
+            earliest,
+            latest
+        ).stream()
+        .collect(Collectors.toMap(ScheduleEntity::getStartAt, Function.identity(), (a, b) -> a));
+
+    List<ScheduleEntity> schedules = new ArrayList<>(requestedStartTimes.size());
+    for (LocalDateTime startTime : requestedStartTimes) {
+      ScheduleEntity schedule = schedulesByStartAt.get(startTime);
+      if (schedule == null) {
+        // 존재하지 않는 일정은 생성하기
+        schedule = ScheduleEntity.of(startTime, startTime.plusHours(1), trainer);
+        schedulesByStartAt.put(startTime, schedule);
+      } else if (schedule.getScheduleStatusType() != ScheduleStatusType.OPEN) {
+        // 이미 존재하는 일정은 OPEN 상태일 때만 사용
+        throw new ScheduleStatusNotOpenException();
+      }
+      schedule.apply(ptContract);
+      schedule.acceptReserveApplied();
+      schedules.add(schedule);
+    }
 
     // 일정 등록
-    scheduleRepository.saveAll(newSchedules);
-    scheduleRepository.saveAll(existingSchedules);
-    ptContractRepository.save(ptContract);
+    scheduleRepository.saveAll(schedules);
+    scheduleCalendarCache.evict(schedules);
+    schedules.forEach(scheduleAvailabilityIndex::update);
 
     // 알림 저장 및 전송
     NotificationEntity notification = saveNotification(
         RESERVATION_REGISTERED,
         trainer,
         ptContract.getTrainee(),
-        getFirstDateOf(newSchedules, existingSchedules),
-        newSchedules.size() + existingSchedules.size()
+        earliest,
+        schedules.size()
     );
     sendNotification(notification);
 
+    // 차감은 DB에서 했고 다른 요청도 동시에 차감할 수 있으므로, 조회해 둔 엔티티가 아닌 DB의 남은 횟수를 반환
     return new RegisterScheduleResponseDto(
-        newSchedules.size() + existingSchedules.size(),
-        ptContract.getRemainingSession()
+        schedules.size(),
+        ptContractRepository.findRemainingSession(ptContract.getId())
     );
   }
 
-  private List<ScheduleEntity> createNewSchedules(
-      List<LocalDateTime> requestedStartTimes,
-      Set<LocalDateTime> existingsStartTimes,
-      PtContractEntity ptContract
-  ) {
-    TrainerEntity trainer = getTrainer();
-    return requestedStartTimes.stream()
-        .filter(time -> !existingsStartTimes.contains(time))
-        .map(startTime -> {
-          LocalDateTime endAt = startTime.plusHours(1);
-          return ScheduleEntity.of(startTime, endAt, trainer);
-        })
-        .peek(schedule -> {
-          schedule.apply(ptContract);
-          schedule.acceptReserveApplied();
-          ptContract.useSession();
-        })
-        .toList();
-  }
-
-  private List<ScheduleEntity> updateExistingSchedules(
-      long trainerId,
-      Set<LocalDateTime> existingsStartTimes,
-      PtContractEntity ptContract
-  ) {
-    return existingsStartTimes.stream()
-        .map(time -> scheduleRepository.findByDates(trainerId, time, time).stream()
-            .findFirst()
-            .orElseThrow(ScheduleNotFoundException::new)
-        )
-        .peek(schedule -> {
-          if (schedule.getScheduleStatusType() != ScheduleStatusType.OPEN) {
-            throw new ScheduleStatusNotOpenException();
-          }
-          schedule.apply(ptContract);
-          schedule.acceptReserveApplied();
-          ptContract.useSession();
-        })
-        .toList();
-  }
-
   private TrainerEntity getTrainer() {
     String email = SecurityContextHolder.getContext().getAuthentication().getName();
     return trainerRepository.findByEmail(email)
@@ -202,12 +249,39 @@ public class ScheduleOpenCloseService {
         .orElseThrow(PtContractNotExistException::new);
   }
 
+  /**
+   * 요청한 일정 시작 시간 목록. 같은 시간이 두 번 이상 들어있으면 에러를 냄
+   */
   private List<LocalDateTime> getRequestedTimes(List<ScheduleDateTimes> dateTimes) {
-    return dateTimes.stream()
+    List<LocalDateTime> requestedTimes = dateTimes.stream()
         .flatMap(dateTime -> dateTime.getStartTimes().stream()
             .map(startTime -> LocalDateTime.of(dateTime.getStartDate(), startTime))
         )
         .toList();
+
+    if (new HashSet<>(requestedTimes).size() != requestedTimes.size()) {
+      throw new ScheduleInvalidException();
+    }
+    return requestedTimes;
+  }
+
+  /**
+   * 시작 시간 중 이미 일정이 있거나, 기간이 겹치는 반복 일정이 아직 생성하지 않은 일정과 같은 시간이 있는지 확인
+   */
+  private boolean isOccupied(long trainerId, List<LocalDateTime> startTimes,
+      LocalDate startDate, LocalDate endDate) {
+    if (startTimes.isEmpty()) {
+      return false;
+    }
+
+    Set<LocalDateTime> occupied = new HashSet<>(scheduleRepository.findScheduleDatesByDates(
+        trainerId,
+        getEarliest(startTimes),
+        getLatest(startTimes)
+    ));
+    scheduleTemplateRepository.findOverlapping(trainerId, startDate, endDate)
+        .forEach(template -> occupied.addAll(template.getPendingStartTimes(startDate, endDate)));
+    return startTimes.stream().anyMatch(occupied::contains);
   }
 
   private LocalDateTime getEarliest(List<LocalDateTime> times) {
@@ -222,18 +296,6 @@ public class ScheduleOpenCloseService {
         .orElseThrow(ScheduleInvalidException::new);
   }
 
-  private LocalDateTime getFirstDateOf(List<ScheduleEntity> newSchedules,
-      List<ScheduleEntity> existingSchedules) {
-    PriorityQueue<LocalDateTime> queue = new PriorityQueue<>(Comparator.naturalOrder());
-    newSchedules.stream()
-        .map(ScheduleEntity::getStartAt)
-        .forEach(queue::add);
-    existingSchedules.stream()
-        .map(ScheduleEntity::getStartAt)
-        .forEach(queue::add);
-    return queue.peek();
-  }
-
   /**
    * 알림 엔티티를 만들어서 저장함
    */
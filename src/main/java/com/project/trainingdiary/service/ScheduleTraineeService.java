@@ -1,10 +1,14 @@
 package com.project.trainingdiary.service;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
+import com.project.trainingdiary.component.ScheduleTemplateMaterializer;
 import com.project.trainingdiary.dto.request.schedule.ApplyScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CancelScheduleByTraineeRequestDto;
 import com.project.trainingdiary.dto.response.schedule.ApplyScheduleResponseDto;
 import com.project.trainingdiary.dto.response.schedule.CancelScheduleByTraineeResponseDto;
+import com.project.trainingdiary.dto.response.schedule.OpenSlotResponseDto;
 import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
 import com.project.trainingdiary.entity.NotificationEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
@@ -36,9 +40,12 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.hibernate.Hibernate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @AllArgsConstructor
@@ -47,19 +54,32 @@ public class ScheduleTraineeService {
   private static final int MAX_QUERY_DAYS = 180;
   private static final LocalTime START_TIME = LocalTime.of(0, 0);
   private static final LocalTime END_TIME = LocalTime.of(23, 59);
+  private static final int MAX_OPEN_SLOTS = 50;
 
   private final ScheduleRepository scheduleRepository;
   private final PtContractRepository ptContractRepository;
   private final TraineeRepository traineeRepository;
   private final NotificationRepository notificationRepository;
   private final FcmPushNotification fcmPushNotification;
+  private final ScheduleCalendarCache scheduleCalendarCache;
+  private final ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+  private final ScheduleTemplateMaterializer scheduleTemplateMaterializer;
+  private final TransactionTemplate transactionTemplate;
 
   /**
    * 일정 예약 신청
+   * <p>
+   * 일정은 OPEN 상태일 때만 바꾸는 조건부 UPDATE로 선점하고, PT 횟수도 남은 횟수를 조건으로 원자적으로 차감함.
+   * 롤백된 신청에서 알림이 전송되지 않도록 푸시 알림은 커밋된 이후에 전송함
    */
-  @Transactional
   public ApplyScheduleResponseDto applySchedule(ApplyScheduleRequestDto dto,
       LocalDateTime currentTime) {
+    AppliedSchedule applied = transactionTemplate.execute(status -> apply(dto, currentTime));
+    fcmPushNotification.sendPushNotification(applied.getNotification());
+    return applied.getResponse();
+  }
+
+  private AppliedSchedule apply(ApplyScheduleRequestDto dto, LocalDateTime currentTime) {
     TraineeEntity trainee = getTrainee();
 
     ScheduleEntity schedule = scheduleRepository.findById(dto.getScheduleId())
@@ -81,27 +101,37 @@ public class ScheduleTraineeService {
         schedule.getTrainer().getId(),
         trainee.getId()
     );
-    // 남은 세션이 없는 경우 신청 불가
-    if (ptContract.getRemainingSession() <= 0) {
+
+    // 다른 트레이니가 먼저 신청했다면 더 이상 OPEN 상태가 아니므로 선점에 실패함
+    if (scheduleRepository.claimOpenSchedule(schedule.getId(), ptContract) == 0) {
+      throw new ScheduleStatusNotOpenException();
+    }
+    // 남은 세션이 없는 경우 신청 불가(선점한 일정도 함께 롤백됨)
+    if (ptContractRepository.useSessions(ptContract.getId(), 1) == 0) {
       throw new PtContractNotEnoughSessionException();
     }
 
-    // 일정 신청
-    ptContract.useSession();
-    ptContractRepository.save(ptContract);
-    schedule.apply(ptContract);
-    scheduleRepository.save(schedule);
+    // 선점하면서 영속성 컨텍스트가 비워졌으므로 DB에 반영된 일정을 다시 읽음
+    ScheduleEntity applied = scheduleRepository.findById(schedule.getId())
+        .orElseThrow(ScheduleNotFoundException::new);
+    scheduleCalendarCache.evict(
+        applied.getTrainer().getId(), trainee.getId(), applied.getStartAt()
+    );
+    scheduleAvailabilityIndex.update(applied);
 
-    // 알림 저장 및 전송
+    // 알림 저장. 전송은 커밋 이후에 함
     NotificationEntity notification = saveNotification(
         NotificationType.RESERVATION_APPLIED,
-        schedule.getTrainer(),
-        trainee,
-        schedule.getStartAt()
+        applied.getTrainer(),
+        applied.getPtContract().getTrainee(),
+        applied.getStartAt()
     );
-    sendNotification(notification);
+    markUnread(notification);
 
-    return new ApplyScheduleResponseDto(schedule.getId(), schedule.getScheduleStatusType());
+    return new AppliedSchedule(
+        new ApplyScheduleResponseDto(applied.getId(), applied.getScheduleStatusType()),
+        notification
+    );
   }
 
   /**
@@ -131,10 +161,13 @@ public class ScheduleTraineeService {
     // 트레이니의 일정 취소
     // PtContract의 사용을 먼저 취소하고, schedule cancel을 해야함. cancel을 먼저하면 ptContract가 null로 변함
     PtContractEntity ptContract = schedule.getPtContract();
-    ptContract.restoreSession();
-    ptContractRepository.save(ptContract);
+    ptContractRepository.restoreSession(ptContract.getId());
     schedule.cancel();
     scheduleRepository.save(schedule);
+    scheduleCalendarCache.evict(
+        schedule.getTrainer().getId(), trainee.getId(), schedule.getStartAt()
+    );
+    scheduleAvailabilityIndex.update(schedule);
 
     // 알림 저장 및 전송
     NotificationEntity notification = saveNotification(
@@ -151,12 +184,12 @@ public class ScheduleTraineeService {
 
   /**
    * 트레이니의 일정 목록 조회
+   * <p>
+   * 캐시를 채우는 조회가 이전에 시작된 트랜잭션의 스냅샷을 읽지 않도록 트랜잭션 없이 실행함. 반복 일정으로부터 일정을 생성하지 않으므로 잠금을 잡지 않음
    */
   public List<ScheduleResponseDto> getScheduleList(LocalDate startDate, LocalDate endDate) {
     TraineeEntity trainee = getTrainee();
-    Long currentTrainerId = ptContractRepository.findByTraineeId(trainee.getId())
-        .map(PtContractEntity::getTrainer)
-        .map(TrainerEntity::getId)
+    Long currentTrainerId = ptContractRepository.findTrainerIdByTraineeId(trainee.getId())
         .orElse(null);
 
     LocalDateTime startDateTime = LocalDateTime.of(startDate, START_TIME);
@@ -166,14 +199,45 @@ public class ScheduleTraineeService {
       throw new ScheduleRangeTooLongException();
     }
 
-    return scheduleRepository.getScheduleListByTrainee(
+    return scheduleCalendarCache.getTraineeCalendar(
         currentTrainerId,
         trainee.getId(),
-        startDateTime,
-        endDateTime
+        startDate,
+        endDate
     );
   }
 
+  /**
+   * 현재 PT 계약을 맺은 트레이너의 가장 가까운 예약 가능 일정 조회
+   * <p>
+   * 시간은 예약 가능 시간 인덱스에서 찾고, 신청에 필요한 일정 id만 찾은 시간들로 한 번 조회함.
+   * 반복 일정으로만 열려 있는 시간은 이때 일정이 생성됨
+   */
+  @Transactional
+  public List<OpenSlotResponseDto> getOpenSlots(int count, LocalDateTime now) {
+    TraineeEntity trainee = getTrainee();
+    long trainerId = ptContractRepository.findTrainerIdByTraineeId(trainee.getId())
+        .orElseThrow(PtContractNotExistException::new);
+
+    // 1시간 내로 시작하는 일정은 신청할 수 없으므로 제외
+    List<LocalDateTime> startTimes = scheduleAvailabilityIndex.findNextOpenSlots(
+        trainerId,
+        now.plusHours(1),
+        Math.min(Math.max(count, 1), MAX_OPEN_SLOTS)
+    );
+    if (startTimes.isEmpty()) {
+      return List.of();
+    }
+
+    scheduleTemplateMaterializer.materialize(
+        trainerId, startTimes.get(startTimes.size() - 1).toLocalDate()
+    );
+    return scheduleRepository.findOpenByStartTimes(trainerId, startTimes)
+        .stream()
+        .map(schedule -> new OpenSlotResponseDto(schedule.getId(), schedule.getStartAt()))
+        .toList();
+  }
+
   private TraineeEntity getTrainee() {
     String email = SecurityContextHolder.getContext().getAuthentication().getName();
     return traineeRepository.findByEmail(email)
@@ -217,6 +281,20 @@ public class ScheduleTraineeService {
     return notification;
   }
 
+  /**
+   * 알림을 받을 사용자에게 미확인 알림 표시를 하고, 커밋 이후에 전송할 수 있도록 FCM 토큰을 미리 읽어 둠
+   */
+  private void markUnread(NotificationEntity notification) {
+    if (notification.isToTrainee()) {
+      notification.getTrainee().setUnreadNotification(true);
+      Hibernate.initialize(notification.getTrainee().getFcmToken());
+    }
+    if (notification.isToTrainer()) {
+      notification.getTrainer().setUnreadNotification(true);
+      Hibernate.initialize(notification.getTrainer().getFcmToken());
+    }
+  }
+
   /**
    * 알림을 전송하고, 전송한 사용자에게 미확인 알림 표시를 함
    */
@@ -229,4 +307,15 @@ public class ScheduleTraineeService {
       notification.getTrainer().setUnreadNotification(true);
     }
   }
+
+  /**
+   * 예약 신청 트랜잭션의 결과와 커밋 이후에 전송할 알림
+   */
+  @Getter
+  @AllArgsConstructor
+  private static class AppliedSchedule {
+
+    private final ApplyScheduleResponseDto response;
+    private final NotificationEntity notification;
+  }
 }
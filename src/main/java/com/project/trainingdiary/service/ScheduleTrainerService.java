@@ -1,6 +1,8 @@
 package com.project.trainingdiary.service;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
 import com.project.trainingdiary.dto.request.schedule.AcceptScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CancelScheduleByTrainerRequestDto;
 import com.project.trainingdiary.dto.request.schedule.RejectScheduleRequestDto;
@@ -50,6 +52,8 @@ public class ScheduleTrainerService {
   private final TrainerRepository trainerRepository;
   private final NotificationRepository notificationRepository;
   private final FcmPushNotification fcmPushNotification;
+  private final ScheduleCalendarCache scheduleCalendarCache;
+  private final ScheduleAvailabilityIndex scheduleAvailabilityIndex;
 
   /**
    * 일정 예약 수락
@@ -75,6 +79,9 @@ public class ScheduleTrainerService {
     // 일정 수락
     schedule.acceptReserveApplied();
     scheduleRepository.save(schedule);
+    scheduleCalendarCache.evict(
+        schedule.getTrainer().getId(), ptContract.getTrainee().getId(), schedule.getStartAt()
+    );
 
     // 알림 저장 및 전송
     NotificationEntity notification = saveNotification(
@@ -110,8 +117,11 @@ public class ScheduleTrainerService {
     // 일정 거절
     schedule.rejectReserveApplied();
     scheduleRepository.save(schedule);
-    ptContract.restoreSession();
-    ptContractRepository.save(ptContract);
+    ptContractRepository.restoreSession(ptContract.getId());
+    scheduleCalendarCache.evict(
+        schedule.getTrainer().getId(), ptContract.getTrainee().getId(), schedule.getStartAt()
+    );
+    scheduleAvailabilityIndex.update(schedule);
 
     // 알림 저장 및 전송
     NotificationEntity notification = saveNotification(
@@ -145,10 +155,13 @@ public class ScheduleTrainerService {
     // 일정 취소
     // PtContract의 사용을 먼저 취소하고, schedule cancel을 해야함. cancel을 먼저하면 ptContract가 null로 변함
     PtContractEntity ptContract = schedule.getPtContract();
-    ptContract.restoreSession();
-    ptContractRepository.save(ptContract);
+    ptContractRepository.restoreSession(ptContract.getId());
     schedule.cancel();
     scheduleRepository.save(schedule);
+    scheduleCalendarCache.evict(
+        schedule.getTrainer().getId(), ptContract.getTrainee().getId(), schedule.getStartAt()
+    );
+    scheduleAvailabilityIndex.update(schedule);
 
     // 알림 저장 및 전송
     NotificationEntity notification = saveNotification(
@@ -165,6 +178,8 @@ public class ScheduleTrainerService {
 
   /**
    * 트레이너의 일정 목록 조회
+   * <p>
+   * 캐시를 채우는 조회가 이전에 시작된 트랜잭션의 스냅샷을 읽지 않도록 트랜잭션 없이 실행함. 반복 일정으로부터 일정을 생성하지 않으므로 잠금을 잡지 않음
    */
   public List<ScheduleResponseDto> getScheduleList(LocalDate startDate, LocalDate endDate) {
     TrainerEntity trainer = getTrainer();
@@ -176,7 +191,7 @@ public class ScheduleTrainerService {
       throw new ScheduleRangeTooLongException();
     }
 
-    return scheduleRepository.getScheduleListByTrainer(trainer.getId(), startDateTime, endDateTime);
+    return scheduleCalendarCache.getTrainerCalendar(trainer.getId(), startDate, endDate);
   }
 
   private TrainerEntity getTrainer() {
@@ -22,6 +22,7 @@ import com.project.trainingdiary.exception.user.VerificationCodeNotFoundExceptio
 import com.project.trainingdiary.exception.user.VerificationCodeNotMatchedException;
 import com.project.trainingdiary.exception.user.VerificationCodeNotYetVerifiedException;
 import com.project.trainingdiary.exception.user.WrongPasswordException;
+import com.project.trainingdiary.model.ParsedToken;
 import com.project.trainingdiary.model.UserPrincipal;
 import com.project.trainingdiary.model.type.UserRoleType;
 import com.project.trainingdiary.provider.CookieProvider;
@@ -347,8 +348,8 @@ public class UserService implements UserDetailsService {
     String accessToken = tokenProvider.createAccessToken(username);
     String refreshToken = tokenProvider.createRefreshToken(username);
 
-    LocalDateTime accessTokenExpiryDate = tokenProvider.getExpiryDateFromToken(accessToken);
-    LocalDateTime refreshTokenExpiryDate = tokenProvider.getExpiryDateFromToken(refreshToken);
+    LocalDateTime accessTokenExpiryDate = tokenProvider.parse(accessToken).getExpiryDate();
+    LocalDateTime refreshTokenExpiryDate = tokenProvider.parse(refreshToken).getExpiryDate();
 
     boolean isLocal = isLocalRequest(request);
 
@@ -357,8 +358,8 @@ public class UserService implements UserDetailsService {
     cookieProvider.setCookie(response, REFRESH_TOKEN_COOKIE_NAME, refreshToken,
         refreshTokenExpiryDate, isLocal);
 
-    redisTokenRepository.saveAccessToken(username, accessToken, accessTokenExpiryDate);
-    redisTokenRepository.saveRefreshToken(username, refreshToken, refreshTokenExpiryDate);
+    redisTokenRepository.saveTokens(username, accessToken, accessTokenExpiryDate,
+        refreshToken, refreshTokenExpiryDate);
   }
 
   /**
@@ -386,16 +387,15 @@ public class UserService implements UserDetailsService {
    * @param tokenCookie 토큰 쿠키
    */
   private void blacklistToken(Cookie tokenCookie) {
-    if (tokenCookie != null && tokenProvider.validateToken(tokenCookie.getValue())) {
+    if (tokenCookie == null) {
+      return;
+    }
+
+    ParsedToken parsedToken = tokenProvider.parse(tokenCookie.getValue());
+    if (parsedToken.isValid()) {
       log.info("블랙리스트에 추가된 토큰: {}", tokenCookie.getValue());
       tokenProvider.blacklistToken(tokenCookie.getValue());
-
-      String username = tokenProvider.getUsernameFromToken(tokenCookie.getValue());
-      String accessTokenKey = "accessToken:" + username;
-      String refreshTokenKey = "refreshToken:" + username;
-
-      redisTokenRepository.deleteToken(accessTokenKey);
-      redisTokenRepository.deleteToken(refreshTokenKey);
+      redisTokenRepository.deleteTokens(parsedToken.getSubject());
     }
   }
 
@@ -0,0 +1,176 @@
+package com.project.trainingdiary.service;
+
+import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.entity.NotificationEntity;
+import com.project.trainingdiary.entity.PtContractEntity;
+import com.project.trainingdiary.entity.WorkoutMediaEntity;
+import com.project.trainingdiary.entity.WorkoutSessionEntity;
+import com.project.trainingdiary.exception.workout.VideoProcessingBusyException;
+import com.project.trainingdiary.model.NotificationMessage;
+import com.project.trainingdiary.model.VideoTranscodeJob;
+import com.project.trainingdiary.model.VideoUploadResult;
+import com.project.trainingdiary.model.type.NotificationType;
+import com.project.trainingdiary.provider.S3ImageProvider;
+import com.project.trainingdiary.provider.S3VideoProvider;
+import com.project.trainingdiary.repository.NotificationRepository;
+import com.project.trainingdiary.repository.WorkoutMediaRepository;
+import com.project.trainingdiary.repository.WorkoutSessionRepository;
+import com.project.trainingdiary.util.NotificationMessageGeneratorUtil;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoTranscodeService {
+
+  private final WorkoutSessionRepository workoutSessionRepository;
+  private final WorkoutMediaRepository workoutMediaRepository;
+  private final NotificationRepository notificationRepository;
+
+  private final S3VideoProvider s3VideoProvider;
+  private final S3ImageProvider s3ImageProvider;
+  private final FcmPushNotification fcmPushNotification;
+
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolTaskExecutor videoTranscodeExecutor;
+
+  /**
+   * 인코딩 대기열이 가득 찼으면 업로드를 받기 전에 미리 거절함
+   * <p>
+   * 확인한 뒤에 대기열이 찰 수 있으므로, 실제로 거절된 작업은 submit 에서 실패 처리함
+   */
+  public void checkCapacity() {
+    if (videoTranscodeExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+      throw new VideoProcessingBusyException();
+    }
+  }
+
+  /**
+   * 인코딩 작업을 대기열에 추가. 트랜잭션 안에서 호출되면 PENDING 상태의 미디어가 커밋된 이후에 추가함
+   */
+  public void enqueue(VideoTranscodeJob job) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(job);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        submit(job);
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        // 롤백된 경우에는 작업이 실행되지 않으므로 임시 파일을 바로 정리
+        if (status != STATUS_COMMITTED) {
+          job.getSource().delete();
+        }
+      }
+    });
+  }
+
+  private void submit(VideoTranscodeJob job) {
+    try {
+      videoTranscodeExecutor.execute(() -> transcode(job));
+    } catch (TaskRejectedException e) {
+      log.warn("동영상 인코딩 대기열이 가득 찼습니다. mediaId: {}", job.getMediaId());
+      job.getSource().delete();
+      markFailed(job);
+    }
+  }
+
+  /**
+   * 워커 스레드에서 인코딩 및 업로드를 수행하고 결과를 저장
+   */
+  private void transcode(VideoTranscodeJob job) {
+    try {
+      VideoUploadResult result = s3VideoProvider.uploadVideo(job.getSource(), job.getUuid());
+      complete(job, result);
+    } catch (InterruptedException e) {
+      log.warn("동영상 인코딩이 중단되었습니다. mediaId: {}", job.getMediaId());
+      Thread.currentThread().interrupt();
+      markFailed(job);
+    } catch (Exception e) {
+      log.error("동영상 인코딩 실패. mediaId: {}, {}", job.getMediaId(), e.getMessage());
+      markFailed(job);
+    } finally {
+      job.getSource().delete();
+    }
+  }
+
+  /**
+   * 인코딩 결과를 저장하고 알림을 보냄
+   * <p>
+   * 인코딩 도중 운동 일지가 삭제되었으면 트랜잭션은 빈 값을 돌려주고, 업로드한 파일은 트랜잭션이 끝난 뒤에 정리함
+   */
+  private void complete(VideoTranscodeJob job, VideoUploadResult result) {
+    Optional<NotificationEntity> notification = transactionTemplate.execute(status -> {
+      WorkoutSessionEntity workoutSession = workoutSessionRepository
+          .findById(job.getSessionId()).orElse(null);
+      WorkoutMediaEntity workoutMedia = workoutMediaRepository
+          .findById(job.getMediaId()).orElse(null);
+      if (workoutSession == null || workoutMedia == null) {
+        return Optional.empty();
+      }
+
+      workoutMedia.complete(result.getOriginalUrl(), result.getThumbnailUrl());
+      workoutMediaRepository.save(workoutMedia);
+
+      return Optional.of(saveNotification(workoutSession));
+    });
+
+    if (notification.isEmpty()) {
+      s3ImageProvider.deleteMedia(result.getOriginalUrl());
+      s3ImageProvider.deleteMedia(result.getThumbnailUrl());
+      return;
+    }
+
+    // 푸시 전송이 느리거나 실패해도 트랜잭션에 영향을 주지 않도록 커밋 이후에 전송
+    fcmPushNotification.sendPushNotification(notification.get());
+  }
+
+  private void markFailed(VideoTranscodeJob job) {
+    workoutMediaRepository.findById(job.getMediaId()).ifPresent(workoutMedia -> {
+      workoutMedia.fail();
+      workoutMediaRepository.save(workoutMedia);
+    });
+  }
+
+  /**
+   * 알림 엔티티를 만들어서 저장하고, 받는 사용자에게 미확인 알림 표시를 함
+   * <p>
+   * 푸시 전송은 트랜잭션 밖에서 하므로 필요한 FCM 토큰을 미리 읽어둠
+   */
+  private NotificationEntity saveNotification(WorkoutSessionEntity workoutSession) {
+    PtContractEntity ptContract = workoutSession.getPtContract();
+    NotificationMessage message = NotificationMessageGeneratorUtil.videoUploadCompleted(
+        ptContract.getTrainee().getName(), workoutSession.getSessionNumber()
+    );
+    NotificationEntity notification = NotificationEntity.of(
+        NotificationType.VIDEO_UPLOAD_COMPLETED, true, false,
+        ptContract.getTrainer(), ptContract.getTrainee(), message.getBody(), message.getTitle(),
+        workoutSession.getSessionDate()
+    );
+    notificationRepository.save(notification);
+
+    if (notification.isToTrainee()) {
+      notification.getTrainee().setUnreadNotification(true);
+      Hibernate.initialize(notification.getTrainee().getFcmToken());
+    }
+    if (notification.isToTrainer()) {
+      notification.getTrainer().setUnreadNotification(true);
+      Hibernate.initialize(notification.getTrainer().getFcmToken());
+    }
+    return notification;
+  }
+}
@@ -1,8 +1,12 @@
 package com.project.trainingdiary.service;
 
+import static com.project.trainingdiary.model.type.ImageAssetType.WORKOUT;
+import static com.project.trainingdiary.model.type.WorkoutMediaStatusType.FAILED;
+import static com.project.trainingdiary.model.type.WorkoutMediaStatusType.PENDING;
 import static com.project.trainingdiary.model.type.WorkoutMediaType.IMAGE;
 import static com.project.trainingdiary.model.type.WorkoutMediaType.VIDEO;
 
+import com.project.trainingdiary.component.ThumbnailEncoder;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutImageRequestDto;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutSessionCreateRequestDto;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutSessionUpdateRequestDto;
@@ -11,6 +15,8 @@ import com.project.trainingdiary.dto.response.workout.session.WorkoutImageRespon
 import com.project.trainingdiary.dto.response.workout.session.WorkoutSessionListResponseDto;
 import com.project.trainingdiary.dto.response.workout.session.WorkoutSessionResponseDto;
 import com.project.trainingdiary.dto.response.workout.session.WorkoutVideoResponseDto;
+import com.project.trainingdiary.dto.response.workout.session.WorkoutVideoStatusResponseDto;
+import com.project.trainingdiary.entity.ImageAssetEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
 import com.project.trainingdiary.entity.TraineeEntity;
 import com.project.trainingdiary.entity.TrainerEntity;
@@ -23,13 +29,15 @@ import com.project.trainingdiary.exception.user.InvalidUserRoleTypeException;
 import com.project.trainingdiary.exception.user.UserNotFoundException;
 import com.project.trainingdiary.exception.workout.InvalidFileTypeException;
 import com.project.trainingdiary.exception.workout.MediaCountExceededException;
+import com.project.trainingdiary.exception.workout.WorkoutMediaNotFoundException;
 import com.project.trainingdiary.exception.workout.WorkoutNotFoundException;
 import com.project.trainingdiary.exception.workout.WorkoutSessionAccessDeniedException;
 import com.project.trainingdiary.exception.workout.WorkoutSessionAlreadyExistException;
 import com.project.trainingdiary.exception.workout.WorkoutSessionNotFoundException;
 import com.project.trainingdiary.exception.workout.WorkoutTypeNotFoundException;
+import com.project.trainingdiary.model.ImageRendition;
+import com.project.trainingdiary.model.VideoTranscodeJob;
 import com.project.trainingdiary.provider.S3ImageProvider;
-import com.project.trainingdiary.provider.S3VideoProvider;
 import com.project.trainingdiary.repository.TraineeRepository;
 import com.project.trainingdiary.repository.TrainerRepository;
 import com.project.trainingdiary.repository.WorkoutMediaRepository;
@@ -38,9 +46,14 @@ import com.project.trainingdiary.repository.WorkoutSessionRepository;
 import com.project.trainingdiary.repository.WorkoutTypeRepository;
 import com.project.trainingdiary.repository.ptContract.PtContractRepository;
 import com.project.trainingdiary.util.MediaUtil;
+import com.project.trainingdiary.util.VideoUtil;
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -48,6 +61,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -63,7 +78,10 @@ public class WorkoutSessionService {
   private final PtContractRepository ptContractRepository;
 
   private final S3ImageProvider s3ImageProvider;
-  private final S3VideoProvider s3VideoProvider;
+
+  private final VideoTranscodeService videoTranscodeService;
+  private final ImageAssetService imageAssetService;
+  private final ThumbnailEncoder thumbnailEncoder;
 
   private static final int MAX_IMAGE_COUNT = 10;
   private static final int MAX_VIDEO_COUNT = 5;
@@ -135,7 +153,10 @@ public class WorkoutSessionService {
 
   /**
    * 트레이너의 운동 일지 삭제
+   * <p>
+   * S3 객체는 되돌릴 수 없으므로 삭제가 커밋된 이후에 지움
    */
+  @Transactional
   public void deleteWorkoutSession(Long workoutSessionId) {
     // 현재 로그인 되어있는 트레이너 본인의 엔티티
     TrainerEntity trainer = getTrainer();
@@ -148,15 +169,27 @@ public class WorkoutSessionService {
     workoutRepository.deleteAll(workouts);
 
     List<WorkoutMediaEntity> workoutMedias = workoutSession.getWorkoutMedia();
+    List<String> mediaUrls = new ArrayList<>();
     for (WorkoutMediaEntity workoutMedia : workoutMedias) {
-      s3ImageProvider.deleteMedia(workoutMedia.getOriginalUrl());
+      // 인코딩 중인 동영상은 아직 업로드된 파일이 없음
+      if (workoutMedia.getOriginalUrl() == null) {
+        continue;
+      }
+      // 같은 이미지를 참조하는 운동 일지가 남아 있으면 S3 객체는 삭제하지 않음
+      if (workoutMedia.getMediaType() == IMAGE
+          && !imageAssetService.release(workoutMedia.getOriginalUrl())) {
+        continue;
+      }
+      mediaUrls.add(workoutMedia.getOriginalUrl());
       if (workoutMedia.getThumbnailUrl() != null) {
-        s3ImageProvider.deleteMedia(workoutMedia.getThumbnailUrl());
+        mediaUrls.add(workoutMedia.getThumbnailUrl());
       }
     }
     workoutMediaRepository.deleteAll(workoutMedias);
 
     workoutSessionRepository.delete(workoutSession);
+
+    afterCommit(() -> mediaUrls.forEach(s3ImageProvider::deleteMedia));
   }
 
   /**
@@ -215,24 +248,64 @@ public class WorkoutSessionService {
       throw new MediaCountExceededException();
     }
 
-    // 이미지 업로드 및 썸네일 생성
-    for (MultipartFile file : dto.getImages()) {
-      String extension = MediaUtil.getExtension(MediaUtil.checkFileNameExist(file));
-      String uuid = UUID.randomUUID().toString();
-      String originalKey = "original_" + uuid + "." + extension;
-      String thumbnailKey = "thumb_" + uuid + "." + extension;
-
-      String originalUrl = s3ImageProvider.uploadImage(file, originalKey, extension, ORIGINAL_SIZE);
-      String thumbnailUrl = s3ImageProvider.uploadImage(file, thumbnailKey, extension,
-          THUMBNAIL_SIZE);
-      WorkoutMediaEntity workoutMedia = WorkoutMediaEntity.builder()
-          .originalUrl(originalUrl)
-          .thumbnailUrl(thumbnailUrl)
-          .mediaType(IMAGE)
-          .build();
-      workoutMediaRepository.save(workoutMedia);
-      workoutSession.getWorkoutMedia().add(workoutMedia);
+    // 이미지 업로드 및 썸네일 생성 - 모든 이미지를 동시에 처리하고 가장 느린 이미지가 끝날 때까지 기다림
+    List<CompletableFuture<List<String>>> uploads = new ArrayList<>();
+    // 새로 업로드하는 이미지의 해시. 이미 업로드된 이미지를 재사용하는 경우 null
+    List<String> contentHashes = new ArrayList<>();
+    List<String> thumbnailFormats = new ArrayList<>();
+    List<WorkoutMediaEntity> workoutMedias = new ArrayList<>();
+    try {
+      for (MultipartFile file : dto.getImages()) {
+        String extension = MediaUtil.getExtension(MediaUtil.checkFileNameExist(file));
+        String contentHash = MediaUtil.sha256(file);
+
+        // 같은 내용의 이미지가 이미 있으면 리사이즈와 업로드 없이 재사용
+        Optional<ImageAssetEntity> imageAsset = imageAssetService.reuse(WORKOUT, contentHash);
+        if (imageAsset.isPresent()) {
+          if (!MediaUtil.isValidImageType(file)) {
+            throw new InvalidFileTypeException();
+          }
+          uploads.add(CompletableFuture.completedFuture(List.of(
+              imageAsset.get().getOriginalUrl(), imageAsset.get().getThumbnailUrl()
+          )));
+          contentHashes.add(null);
+          thumbnailFormats.add(imageAsset.get().getThumbnailFormat());
+          continue;
+        }
+
+        String uuid = UUID.randomUUID().toString();
+        String originalKey = "original_" + uuid + "." + extension;
+        String thumbnailKey = "thumb_" + uuid + "." + thumbnailEncoder.getExtension();
+
+        // 한 번 디코딩한 이미지로 원본과 썸네일을 모두 생성
+        uploads.add(s3ImageProvider.uploadImagesAsync(file, extension, List.of(
+            new ImageRendition(originalKey, ORIGINAL_SIZE, false),
+            new ImageRendition(thumbnailKey, THUMBNAIL_SIZE, true)
+        )));
+        contentHashes.add(contentHash);
+        thumbnailFormats.add(thumbnailEncoder.getFormatName());
+      }
+
+      for (int i = 0; i < uploads.size(); i++) {
+        List<String> urls = S3ImageProvider.join(uploads.get(i));
+        if (contentHashes.get(i) != null) {
+          imageAssetService.register(WORKOUT, contentHashes.get(i), urls.get(0), urls.get(1),
+              thumbnailFormats.get(i));
+        }
+        workoutMedias.add(WorkoutMediaEntity.builder()
+            .originalUrl(urls.get(0))
+            .thumbnailUrl(urls.get(1))
+            .thumbnailFormat(thumbnailFormats.get(i))
+            .mediaType(IMAGE)
+            .build());
+      }
+    } catch (IOException | RuntimeException e) {
+      deleteUploadedImages(uploads, contentHashes);
+      throw e;
     }
+
+    workoutMediaRepository.saveAll(workoutMedias);
+    workoutSession.getWorkoutMedia().addAll(workoutMedias);
     workoutSessionRepository.save(workoutSession);
 
     List<WorkoutMediaEntity> imageUrlList = workoutSession.getWorkoutMedia().stream()
@@ -243,10 +316,12 @@ public class WorkoutSessionService {
 
   /**
    * 운동 일지 - 동영상 업로드
+   * <p>
+   * 업로드된 파일을 임시 파일로 저장하고 PENDING 상태의 미디어를 생성한 뒤, 인코딩은 백그라운드 작업으로 처리함
    */
   @Transactional
   public WorkoutVideoResponseDto uploadWorkoutVideo(WorkoutVideoRequestDto dto)
-      throws IOException, InterruptedException {
+      throws IOException {
     // 현재 로그인 되어있는 트레이너 본인의 엔티티
     TrainerEntity trainer = getTrainer();
     MultipartFile video = dto.getVideo();
@@ -256,8 +331,9 @@ public class WorkoutSessionService {
         .findByPtContract_TrainerAndId(trainer, dto.getSessionId())
         .orElseThrow(() -> new WorkoutSessionNotFoundException(dto.getSessionId()));
 
+    // 인코딩에 실패한 동영상은 조회되지 않으므로 개수에서 제외
     int existingVideoCount = (int) workoutSession.getWorkoutMedia().stream()
-        .filter(media -> media.getMediaType() == VIDEO).count();
+        .filter(media -> media.getMediaType() == VIDEO && media.getStatus() != FAILED).count();
 
     // 운동 일지에 이미 동영상이 5개 존재한다면 더이상 업로드 할 수 없음
     if (existingVideoCount >= MAX_VIDEO_COUNT) {
@@ -269,20 +345,80 @@ public class WorkoutSessionService {
       throw new InvalidFileTypeException();
     }
 
+    // 인코딩 대기열이 가득 찼으면 파일을 저장하기 전에 거절
+    videoTranscodeService.checkCapacity();
+
+    MediaUtil.checkFileNameExist(video);
     String uuid = UUID.randomUUID().toString();
-    String originalUrl = s3VideoProvider.uploadVideo(video, uuid);
-    String thumbnailUrl = s3VideoProvider.uploadThumbnail(video, uuid);
 
-    WorkoutMediaEntity workoutMedia = WorkoutMediaEntity.builder()
-        .originalUrl(originalUrl).thumbnailUrl(thumbnailUrl).mediaType(VIDEO).build();
-    workoutMediaRepository.save(workoutMedia);
-    workoutSession.getWorkoutMedia().add(workoutMedia);
-    workoutSessionRepository.save(workoutSession);
+    // 요청이 끝나면 멀티파트 파일이 삭제되므로 인코딩 작업에서 사용할 수 있도록 임시 파일로 옮겨둠
+    File source = VideoUtil.spool(video);
+
+    WorkoutMediaEntity workoutMedia;
+    try {
+      workoutMedia = WorkoutMediaEntity.builder()
+          .mediaType(VIDEO).status(PENDING).build();
+      workoutMediaRepository.save(workoutMedia);
+      workoutSession.getWorkoutMedia().add(workoutMedia);
+      workoutSessionRepository.save(workoutSession);
+
+      videoTranscodeService.enqueue(new VideoTranscodeJob(
+          workoutSession.getId(), workoutMedia.getId(), source, uuid
+      ));
+    } catch (RuntimeException e) {
+      source.delete();
+      throw e;
+    }
 
     List<WorkoutMediaEntity> workoutMedias = workoutSession.getWorkoutMedia().stream()
-        .filter(media -> media.getMediaType() == VIDEO).toList();
+        .filter(media -> media.getMediaType() == VIDEO)
+        .filter(WorkoutMediaEntity::isCompleted)
+        .toList();
+
+    WorkoutVideoResponseDto response = WorkoutVideoResponseDto
+        .fromEntity(workoutMedias, dto.getSessionId());
+    response.setMediaId(workoutMedia.getId());
+    response.setStatus(workoutMedia.getStatus());
+    return response;
+  }
 
-    return WorkoutVideoResponseDto.fromEntity(workoutMedias, dto.getSessionId());
+  /**
+   * 운동 일지 - 동영상 처리 상태 조회
+   */
+  public WorkoutVideoStatusResponseDto getWorkoutVideoStatus(Long sessionId, Long mediaId) {
+    // 현재 로그인 되어있는 트레이너 본인의 엔티티
+    TrainerEntity trainer = getTrainer();
+
+    WorkoutSessionEntity workoutSession = workoutSessionRepository
+        .findByPtContract_TrainerAndId(trainer, sessionId)
+        .orElseThrow(() -> new WorkoutSessionNotFoundException(sessionId));
+
+    WorkoutMediaEntity workoutMedia = workoutSession.getWorkoutMedia().stream()
+        .filter(media -> media.getMediaType() == VIDEO)
+        .filter(media -> media.getId().equals(mediaId))
+        .findFirst()
+        .orElseThrow(() -> new WorkoutMediaNotFoundException(mediaId));
+
+    return WorkoutVideoStatusResponseDto.fromEntity(workoutMedia, sessionId);
+  }
+
+  /**
+   * 일부 이미지 업로드가 실패한 경우 이미 업로드된 이미지를 정리
+   * <p>
+   * 아직 진행 중인 업로드는 끝난 뒤에 정리하고, 한 이미지 안에서 일부 크기만 성공한 경우는 S3ImageProvider 가 정리함
+   */
+  private void deleteUploadedImages(List<CompletableFuture<List<String>>> uploads,
+      List<String> contentHashes) {
+    for (int i = 0; i < uploads.size(); i++) {
+      // 재사용한 이미지는 다른 곳에서 참조하고 있으므로 삭제하지 않음
+      if (i < contentHashes.size() && contentHashes.get(i) != null) {
+        uploads.get(i).whenComplete((urls, e) -> {
+          if (urls != null) {
+            urls.forEach(s3ImageProvider::deleteMedia);
+          }
+        });
+      }
+    }
   }
 
   /**
@@ -303,4 +439,18 @@ public class WorkoutSessionService {
         .orElseThrow(UserNotFoundException::new);
   }
 
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
 }
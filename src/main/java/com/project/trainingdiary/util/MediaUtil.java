@@ -5,7 +5,22 @@ import static org.imgscalr.Scalr.Mode.FIT_TO_HEIGHT;
 import static org.imgscalr.Scalr.Mode.FIT_TO_WIDTH;
 
 import com.project.trainingdiary.exception.workout.FileNoNameException;
+import com.project.trainingdiary.exception.workout.ImageTooLargeException;
+import com.project.trainingdiary.exception.workout.InvalidFileTypeException;
+import com.project.trainingdiary.model.ImageInfo;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import org.imgscalr.Scalr;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,6 +33,12 @@ public class MediaUtil {
   private static final int ORIGINAL_WIDTH = 410;
   private static final int ORIGINAL_HEIGHT = 410;
 
+  // 디코딩을 허용하는 최대 픽셀 수 (약 5천만 화소)
+  private static final long MAX_IMAGE_PIXELS = 50_000_000L;
+  // 서브샘플링 후에도 짧은 변이 목표 크기의 2배 이상 남도록 해서 리사이즈 품질을 유지
+  private static final int SUBSAMPLING_MARGIN = 2;
+  private static final int HEADER_SIZE = 12;
+
   public static boolean isValidImageType(MultipartFile file) {
     return file.getContentType() != null && file.getContentType().startsWith("image/");
   }
@@ -26,6 +47,59 @@ public class MediaUtil {
     return file.getContentType() != null && file.getContentType().startsWith("video/");
   }
 
+  /**
+   * 픽셀을 디코딩하지 않고 파일 헤더만 읽어서 형식과 크기를 확인
+   * <p>
+   * 지원하지 않는 형식이거나 해상도가 너무 크면 디코딩하기 전에 예외를 발생시킴
+   */
+  public static ImageInfo inspectImage(MultipartFile file) throws IOException {
+    try (InputStream inputStream = file.getInputStream()) {
+      if (!isSupportedImageHeader(inputStream.readNBytes(HEADER_SIZE))) {
+        throw new InvalidFileTypeException();
+      }
+    }
+
+    try (InputStream inputStream = file.getInputStream();
+        ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+      ImageReader reader = getImageReader(imageInputStream);
+      try {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > MAX_IMAGE_PIXELS) {
+          throw new ImageTooLargeException();
+        }
+        return new ImageInfo(reader.getFormatName(), width, height);
+      } catch (IIOException e) {
+        throw new InvalidFileTypeException();
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * 목표 크기보다 훨씬 큰 이미지는 서브샘플링해서 디코딩하여 필요한 만큼의 픽셀만 메모리에 올림
+   */
+  public static BufferedImage readImage(MultipartFile file, ImageInfo imageInfo, int targetSize)
+      throws IOException {
+    int shortSide = Math.min(imageInfo.getWidth(), imageInfo.getHeight());
+    int subsampling = Math.max(1, shortSide / (targetSize * SUBSAMPLING_MARGIN));
+
+    try (InputStream inputStream = file.getInputStream();
+        ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+      ImageReader reader = getImageReader(imageInputStream);
+      try {
+        ImageReadParam param = reader.getDefaultReadParam();
+        if (subsampling > 1) {
+          param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
   public static String getExtension(String filename) {
     return filename.substring(filename.lastIndexOf('.') + 1);
   }
@@ -49,6 +123,27 @@ public class MediaUtil {
     return Scalr.resize(originalImage, QUALITY, ORIGINAL_WIDTH, ORIGINAL_HEIGHT);
   }
 
+  /**
+   * 파일 내용의 SHA-256 해시를 hex 문자열로 반환. 디코딩 없이 스트림을 한 번 읽기만 함
+   */
+  public static String sha256(MultipartFile file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    byte[] buffer = new byte[8192];
+    try (InputStream inputStream = file.getInputStream()) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
   public static String checkFileNameExist(MultipartFile file) {
     String filename = file.getOriginalFilename();
     if (filename == null) {
@@ -61,6 +156,35 @@ public class MediaUtil {
     return url.substring(url.lastIndexOf("/") + 1);
   }
 
+  private static ImageReader getImageReader(ImageInputStream imageInputStream) {
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+    if (!readers.hasNext()) {
+      throw new InvalidFileTypeException();
+    }
+    ImageReader reader = readers.next();
+    reader.setInput(imageInputStream, true, true);
+    return reader;
+  }
+
+  /**
+   * 매직 바이트로 JPEG, PNG, GIF, BMP 인지 확인
+   */
+  private static boolean isSupportedImageHeader(byte[] header) {
+    if (header.length >= 3
+        && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+      return true;
+    }
+    if (header.length >= 8
+        && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+      return true;
+    }
+    if (header.length >= 4
+        && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+      return true;
+    }
+    return header.length >= 2 && header[0] == 'B' && header[1] == 'M';
+  }
+
   public static String getMediaType(String extension) {
     if ("jpg".equalsIgnoreCase(extension) || "jpeg".equalsIgnoreCase(extension)) {
       return MediaType.IMAGE_JPEG_VALUE;
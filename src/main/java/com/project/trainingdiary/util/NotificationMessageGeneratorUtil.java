@@ -115,4 +115,17 @@ public class NotificationMessageGeneratorUtil {
     );
     return new NotificationMessage(title, body);
   }
+
+  /**
+   * 운동 일지 동영상 업로드 완료
+   */
+  public static NotificationMessage videoUploadCompleted(String traineeName, int sessionNumber) {
+    String title = "동영상 업로드 완료";
+    String body = String.format(
+        "%s님의 %d회차 운동 일지에 동영상 업로드가 완료되었습니다.",
+        traineeName,
+        sessionNumber
+    );
+    return new NotificationMessage(title, body);
+  }
 }
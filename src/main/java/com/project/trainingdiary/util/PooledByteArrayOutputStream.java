@@ -0,0 +1,26 @@
+package com.project.trainingdiary.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * 내부 버퍼를 복사하지 않고 읽을 수 있는 ByteArrayOutputStream. ImageBufferPool 에서 재사용됨
+ */
+public class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+
+  public PooledByteArrayOutputStream(int initialCapacity) {
+    super(initialCapacity);
+  }
+
+  /**
+   * toByteArray() 와 달리 내부 버퍼를 그대로 감싸므로 스트림을 다 읽기 전에 reset 하거나 다시 쓰면 안 됨
+   */
+  public synchronized InputStream toInputStream() {
+    return new ByteArrayInputStream(buf, 0, count);
+  }
+
+  public synchronized int capacity() {
+    return buf.length;
+  }
+}
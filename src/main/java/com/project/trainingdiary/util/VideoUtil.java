@@ -2,11 +2,12 @@ package com.project.trainingdiary.util;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
+import java.io.InterruptedIOException;
+import java.lang.ProcessBuilder.Redirect;
 import org.springframework.web.multipart.MultipartFile;
 
 public class VideoUtil {
@@ -16,135 +17,167 @@ public class VideoUtil {
   private static final String VIDEO_THUMBNAIL_WIDTH = "360:-1";
   private static final String VIDEO_THUMBNAIL_HEIGHT = "-1:360";
 
-  public static boolean isVerticalVideo(MultipartFile file)
-      throws IOException, InterruptedException {
+  /**
+   * 업로드된 동영상을 임시 파일로 한 번만 저장(spool)
+   * <p>
+   * 멀티파트가 이미 디스크에 있는 경우 transferTo 가 파일을 이동시키므로 별도의 복사가 일어나지 않음
+   */
+  public static File spool(MultipartFile file) throws IOException {
     File tempFile = File.createTempFile("video", ".tmp");
-
-    try (InputStream inputStream = file.getInputStream()) {
-      try (OutputStream outputStream = new FileOutputStream(tempFile)) {
-        byte[] buffer = new byte[1024];
-        int bytesRead;
-        while ((bytesRead = inputStream.read(buffer)) != -1) {
-          outputStream.write(buffer, 0, bytesRead);
-        }
-      }
+    try {
+      file.transferTo(tempFile);
+    } catch (IOException | RuntimeException e) {
+      tempFile.delete();
+      throw e;
     }
+    return tempFile;
+  }
 
+  /**
+   * ffprobe 로 동영상의 가로, 세로 크기를 확인해서 세로 영상인지 판단
+   */
+  public static boolean isVerticalVideo(File source) throws IOException, InterruptedException {
     ProcessBuilder processBuilder = new ProcessBuilder(
         "ffprobe",
         "-v", "error",
         "-select_streams", "v:0",
         "-show_entries", "stream=width,height",
         "-of", "default=noprint_wrappers=1:nokey=1",
-        tempFile.getAbsolutePath()
-    );
+        source.getAbsolutePath()
+    ).redirectError(Redirect.DISCARD);
 
     Process process = processBuilder.start();
-    BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-    String widthLine = reader.readLine();
-    String heightLine = reader.readLine();
+    String widthLine;
+    String heightLine;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(process.getInputStream()))) {
+      widthLine = reader.readLine();
+      heightLine = reader.readLine();
+    }
     process.waitFor();
 
-    tempFile.delete();
-
     if (widthLine != null && heightLine != null) {
-      int width = Integer.parseInt(widthLine);
-      int height = Integer.parseInt(heightLine);
+      int width = Integer.parseInt(widthLine.trim());
+      int height = Integer.parseInt(heightLine.trim());
       return height > width;
     }
 
     return false;
   }
 
-  public static String encodeVideo(MultipartFile file, String outputUrl)
-      throws IOException, InterruptedException {
-    boolean isVertical = isVerticalVideo(file);
-
-    ProcessBuilder processBuilder;
-    File tempFile = File.createTempFile("video", ".tmp");
-
-    try (InputStream inputStream = file.getInputStream()) {
-      try (OutputStream outputStream = new FileOutputStream(tempFile)) {
-        byte[] buffer = new byte[1024];
-        int bytesRead;
-        while ((bytesRead = inputStream.read(buffer)) != -1) {
-          outputStream.write(buffer, 0, bytesRead);
-        }
-      }
-    }
-
-    if (isVertical) {
-      processBuilder = new ProcessBuilder(
-          "ffmpeg",
-          "-i", tempFile.getAbsolutePath(),
-          "-vf", "scale=" + VIDEO_QUALITY_HEIGHT,
-          "-preset", "medium",
-          outputUrl
-      );
-    } else {
-      processBuilder = new ProcessBuilder(
-          "ffmpeg",
-          "-i", tempFile.getAbsolutePath(),
-          "-vf", "scale=" + VIDEO_QUALITY_WIDTH,
-          "-preset", "medium",
-          outputUrl
-      );
-    }
+  /**
+   * 저장된 원본 파일을 fragmented MP4 로 인코딩하면서 표준 출력으로 내보냄
+   * <p>
+   * 반환된 스트림을 끝까지 읽으면 ffmpeg 의 종료 코드를 확인하고, 실패했다면 IOException 을 발생시킴.
+   * 인코딩된 파일 전체를 디스크에 쓰지 않고 읽는 쪽에서 바로 업로드할 수 있음
+   */
+  public static InputStream encodeVideoToStream(File source, boolean isVertical, int threads)
+      throws IOException {
+    ProcessBuilder processBuilder = new ProcessBuilder(
+        "ffmpeg",
+        "-i", source.getAbsolutePath(),
+        "-vf", "scale=" + (isVertical ? VIDEO_QUALITY_HEIGHT : VIDEO_QUALITY_WIDTH),
+        "-c:v", "libx264",
+        "-preset", "medium",
+        "-c:a", "aac",
+        "-threads", String.valueOf(threads),
+        "-movflags", "frag_keyframe+empty_moov+default_base_moof",
+        "-f", "mp4",
+        "pipe:1"
+    ).redirectError(Redirect.DISCARD);
+
+    return new ProcessOutputStream(processBuilder.start());
+  }
 
-    Process process = processBuilder.start();
-    process.waitFor();
+  /**
+   * 저장된 원본 파일로부터 썸네일 이미지를 생성
+   */
+  public static String generateThumbnail(File source, boolean isVertical, String outputUrl,
+      int threads) throws IOException, InterruptedException {
+    ProcessBuilder processBuilder = new ProcessBuilder(
+        "ffmpeg",
+        "-y",
+        "-i", source.getAbsolutePath(),
+        "-ss", "00:00:01.000",
+        "-vframes", "1",
+        "-vf", "scale=" + (isVertical ? VIDEO_THUMBNAIL_WIDTH : VIDEO_THUMBNAIL_HEIGHT),
+        "-threads", String.valueOf(threads),
+        outputUrl
+    );
 
-    tempFile.delete();
+    run(processBuilder);
 
     return outputUrl;
-
   }
 
-  public static String generateThumbnail(MultipartFile file, String outputUrl)
+  /**
+   * 프로세스를 실행하고 종료될 때까지 대기. 출력은 버려서 파이프 버퍼가 가득 차 멈추는 일이 없도록 함
+   */
+  private static void run(ProcessBuilder processBuilder)
       throws IOException, InterruptedException {
-    boolean isVertical = isVerticalVideo(file);
+    Process process = processBuilder
+        .redirectOutput(Redirect.DISCARD)
+        .redirectError(Redirect.DISCARD)
+        .start();
+    int exitCode = process.waitFor();
+    if (exitCode != 0) {
+      throw new IOException(processBuilder.command().get(0) + " 실행 실패: exit code " + exitCode);
+    }
+  }
 
-    ProcessBuilder processBuilder;
-    File tempFile = File.createTempFile("video", ".tmp");
+  /**
+   * 프로세스의 표준 출력을 감싸서 끝까지 읽었을 때 종료 코드를 확인하는 스트림
+   */
+  private static class ProcessOutputStream extends FilterInputStream {
 
-    try (InputStream inputStream = file.getInputStream()) {
-      try (OutputStream outputStream = new FileOutputStream(tempFile)) {
-        byte[] buffer = new byte[1024];
-        int bytesRead;
-        while ((bytesRead = inputStream.read(buffer)) != -1) {
-          outputStream.write(buffer, 0, bytesRead);
-        }
-      }
+    private final Process process;
+
+    private ProcessOutputStream(Process process) {
+      super(process.getInputStream());
+      this.process = process;
     }
 
-    if (isVertical) {
-      processBuilder = new ProcessBuilder(
-          "ffmpeg",
-          "-i", tempFile.getAbsolutePath(),
-          "-ss", "00:00:01.000",
-          "-vframes", "1",
-          "-vf", "scale=" + VIDEO_THUMBNAIL_WIDTH,
-          "-threads", "4",
-          outputUrl
-      );
-    } else {
-      processBuilder = new ProcessBuilder(
-          "ffmpeg",
-          "-i", tempFile.getAbsolutePath(),
-          "-ss", "00:00:01.000",
-          "-vframes", "1",
-          "-vf", "scale=" + VIDEO_THUMBNAIL_HEIGHT,
-          "-threads", "4",
-          outputUrl
-      );
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b == -1) {
+        checkExitCode();
+      }
+      return b;
     }
 
-    Process process = processBuilder.start();
-    process.waitFor();
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n == -1) {
+        checkExitCode();
+      }
+      return n;
+    }
 
-    tempFile.delete();
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        // 끝까지 읽지 않고 닫은 경우 인코딩을 중단
+        if (process.isAlive()) {
+          process.destroyForcibly();
+        }
+      }
+    }
 
-    return outputUrl;
+    private void checkExitCode() throws IOException {
+      try {
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+          throw new IOException("ffmpeg 실행 실패: exit code " + exitCode);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("ffmpeg 종료 대기 중 인터럽트 발생");
+      }
+    }
   }
 
 }
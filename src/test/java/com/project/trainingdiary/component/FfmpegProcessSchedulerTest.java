@@ -0,0 +1,194 @@
+package com.project.trainingdiary.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.trainingdiary.exception.workout.VideoProcessingBusyException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ffmpeg 프로세스 스케줄러")
+class FfmpegProcessSchedulerTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final List<Thread> workers = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    release.countDown();
+    for (Thread thread : workers) {
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+  }
+
+  @Test
+  @DisplayName("최대 프로세스 수보다 많이 실행하지 않고, 나머지는 자리가 날 때까지 기다림")
+  void limitConcurrentProcesses() throws InterruptedException {
+    FfmpegProcessScheduler scheduler = new FfmpegProcessScheduler(2, 10);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+
+    for (int i = 0; i < 4; i++) {
+      start(() -> {
+        scheduler.execute(threads -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          release.await();
+          running.decrementAndGet();
+          return null;
+        });
+        completed.incrementAndGet();
+      });
+    }
+    // 실행 중인 작업도 release 를 기다리므로 네 스레드가 모두 멈추면 나머지 둘은 자리를 기다리는 중
+    awaitCondition(() -> running.get() == 2 && countWaiting() == 4);
+
+    assertEquals(2, running.get());
+    assertEquals(0, completed.get());
+
+    release.countDown();
+    joinAll();
+
+    assertEquals(4, completed.get());
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 작업을 실행하지 않고 거절함")
+  void rejectAboveQueueCapacity() throws InterruptedException {
+    FfmpegProcessScheduler scheduler = new FfmpegProcessScheduler(1, 1);
+    AtomicBoolean rejectedTaskRan = new AtomicBoolean();
+    holdPermit(scheduler);
+    Thread waiter = start(() -> scheduler.execute(threads -> null));
+    awaitWaiting(waiter);
+
+    assertThrows(VideoProcessingBusyException.class,
+        () -> scheduler.execute(threads -> rejectedTaskRan.getAndSet(true)));
+    assertFalse(rejectedTaskRan.get());
+
+    release.countDown();
+    joinAll();
+  }
+
+  @Test
+  @DisplayName("작업이 예외로 끝나도 자리를 반납함")
+  void releasePermitWhenTaskFails() throws Exception {
+    FfmpegProcessScheduler scheduler = new FfmpegProcessScheduler(1, 1);
+
+    assertThrows(IOException.class, () -> scheduler.execute(threads -> {
+      throw new IOException("ffmpeg failed");
+    }));
+
+    assertEquals("done", scheduler.execute(threads -> "done"));
+  }
+
+  @Test
+  @DisplayName("기다리던 요청이 인터럽트되면 대기열에서 빠져서 다음 요청을 거절하지 않음")
+  void leaveQueueWhenInterrupted() throws InterruptedException {
+    FfmpegProcessScheduler scheduler = new FfmpegProcessScheduler(1, 1);
+    AtomicReference<Exception> interruptedError = new AtomicReference<>();
+    AtomicReference<Exception> nextError = new AtomicReference<>();
+    holdPermit(scheduler);
+
+    Thread interrupted = start(() -> {
+      try {
+        scheduler.execute(threads -> null);
+      } catch (Exception e) {
+        interruptedError.set(e);
+      }
+    });
+    awaitWaiting(interrupted);
+    interrupted.interrupt();
+    interrupted.join(TimeUnit.SECONDS.toMillis(5));
+
+    Thread next = start(() -> {
+      try {
+        scheduler.execute(threads -> null);
+      } catch (Exception e) {
+        nextError.set(e);
+      }
+    });
+    awaitWaiting(next);
+    release.countDown();
+    joinAll();
+
+    assertInstanceOf(InterruptedException.class, interruptedError.get());
+    assertNull(nextError.get());
+  }
+
+  /**
+   * 하나뿐인 자리를 release 가 열릴 때까지 차지함
+   */
+  private void holdPermit(FfmpegProcessScheduler scheduler) throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    start(() -> scheduler.execute(threads -> {
+      started.countDown();
+      release.await();
+      return null;
+    }));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+  }
+
+  private Thread start(ThrowingRunnable runnable) {
+    Thread thread = new Thread(() -> {
+      try {
+        runnable.run();
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    workers.add(thread);
+    thread.start();
+    return thread;
+  }
+
+  private void joinAll() throws InterruptedException {
+    for (Thread thread : workers) {
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+      assertFalse(thread.isAlive());
+    }
+  }
+
+  private long countWaiting() {
+    return workers.stream().filter(thread -> thread.getState() == Thread.State.WAITING).count();
+  }
+
+  private void awaitWaiting(Thread thread) throws InterruptedException {
+    awaitCondition(() -> thread.getState() == Thread.State.WAITING);
+  }
+
+  private void awaitCondition(Condition condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.test()) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("조건을 만족하지 않음");
+      }
+      Thread.sleep(1);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ThrowingRunnable {
+
+    void run() throws Exception;
+  }
+
+  @FunctionalInterface
+  private interface Condition {
+
+    boolean test();
+  }
+}
@@ -0,0 +1,84 @@
+package com.project.trainingdiary.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.project.trainingdiary.util.PooledByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이미지 버퍼 풀")
+class ImageBufferPoolTest {
+
+  private static final int MAX_POOLED_BUFFERS = 32;
+  private static final int MAX_RETAINED_CAPACITY = 4 * 1024 * 1024;
+
+  private final ImageBufferPool imageBufferPool = new ImageBufferPool();
+
+  @Test
+  @DisplayName("돌려받은 버퍼는 비운 뒤에 다시 빌려줌")
+  void resetBeforeReuse() throws IOException {
+    PooledByteArrayOutputStream buffer = imageBufferPool.acquire();
+    buffer.write(new byte[]{1, 2, 3});
+    imageBufferPool.release(buffer);
+
+    PooledByteArrayOutputStream reused = imageBufferPool.acquire();
+
+    assertSame(buffer, reused);
+    assertEquals(0, reused.size());
+    assertEquals(0, reused.toInputStream().readAllBytes().length);
+  }
+
+  @Test
+  @DisplayName("최대 32개까지만 보관하고 그 이상 돌려받은 버퍼는 버림")
+  void keepAtMostMaxPooledBuffers() {
+    List<PooledByteArrayOutputStream> released = acquire(MAX_POOLED_BUFFERS + 1);
+    released.forEach(imageBufferPool::release);
+
+    Set<PooledByteArrayOutputStream> releasedSet = identitySet(released);
+    long reused = acquire(MAX_POOLED_BUFFERS + 1).stream()
+        .filter(releasedSet::contains)
+        .count();
+
+    assertEquals(MAX_POOLED_BUFFERS, reused);
+  }
+
+  @Test
+  @DisplayName("4MB 보다 커진 버퍼는 풀에 돌려놓지 않음")
+  void dropOversizedBuffer() throws IOException {
+    PooledByteArrayOutputStream oversized = imageBufferPool.acquire();
+    oversized.write(new byte[MAX_RETAINED_CAPACITY + 1]);
+    imageBufferPool.release(oversized);
+
+    assertNotSame(oversized, imageBufferPool.acquire());
+  }
+
+  @Test
+  @DisplayName("4MB 까지 커진 버퍼는 풀에 돌려놓음")
+  void keepBufferAtMaxRetainedCapacity() throws IOException {
+    PooledByteArrayOutputStream buffer = imageBufferPool.acquire();
+    buffer.write(new byte[MAX_RETAINED_CAPACITY]);
+    imageBufferPool.release(buffer);
+
+    assertSame(buffer, imageBufferPool.acquire());
+  }
+
+  private List<PooledByteArrayOutputStream> acquire(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> imageBufferPool.acquire())
+        .toList();
+  }
+
+  private Set<PooledByteArrayOutputStream> identitySet(List<PooledByteArrayOutputStream> buffers) {
+    Set<PooledByteArrayOutputStream> set = Collections.newSetFromMap(new IdentityHashMap<>());
+    set.addAll(buffers);
+    return set;
+  }
+}
@@ -0,0 +1,137 @@
+package com.project.trainingdiary.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.trainingdiary.config.CacheConfig;
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.TrainerEntity;
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.project.trainingdiary.repository.schedule.ScheduleTemplateRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("예약 가능 시간 인덱스")
+@ExtendWith(MockitoExtension.class)
+class ScheduleAvailabilityIndexTest {
+
+  private static final long TRAINER_ID = 1L;
+  private static final LocalDateTime FROM = LocalDate.now().atStartOfDay();
+  private static final LocalDateTime OPEN_AT = LocalDate.now().plusDays(1).atTime(10, 0);
+
+  @Mock
+  private ScheduleRepository scheduleRepository;
+
+  @Mock
+  private ScheduleTemplateRepository scheduleTemplateRepository;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+
+  @BeforeEach
+  void setup() {
+    scheduleAvailabilityIndex = new ScheduleAvailabilityIndex(
+        scheduleRepository,
+        scheduleTemplateRepository,
+        CacheConfig.trainerAvailabilityCache(nanos::get)
+    );
+  }
+
+  @Test
+  @DisplayName("일정 상태를 반영해도 만료 시간이 늘어나지 않고, 채운 지 하루가 지나면 다시 채움")
+  void expireOneDayAfterLoad() {
+    LocalDateTime reopened = OPEN_AT.plusHours(1);
+    when(scheduleRepository.findOpenStartTimes(eq(TRAINER_ID), any(), any()))
+        .thenReturn(List.of(OPEN_AT));
+
+    scheduleAvailabilityIndex.findNextOpenSlots(TRAINER_ID, FROM, 10);
+    advance(Duration.ofHours(23));
+    scheduleAvailabilityIndex.update(schedule(reopened, ScheduleStatusType.OPEN));
+
+    assertEquals(List.of(OPEN_AT, reopened),
+        scheduleAvailabilityIndex.findNextOpenSlots(TRAINER_ID, FROM, 10));
+    verify(scheduleRepository, times(1)).findOpenStartTimes(eq(TRAINER_ID), any(), any());
+
+    advance(Duration.ofHours(2));
+
+    assertEquals(List.of(OPEN_AT),
+        scheduleAvailabilityIndex.findNextOpenSlots(TRAINER_ID, FROM, 10));
+    verify(scheduleRepository, times(2)).findOpenStartTimes(eq(TRAINER_ID), any(), any());
+  }
+
+  @Test
+  @DisplayName("채우지 않은 트레이너의 상태 변경은 건너뛰고, 다음 조회 때 DB에서 채움")
+  void skipUpdateBeforeLoad() {
+    when(scheduleRepository.findOpenStartTimes(eq(TRAINER_ID), any(), any()))
+        .thenReturn(List.of());
+
+    scheduleAvailabilityIndex.update(schedule(OPEN_AT, ScheduleStatusType.OPEN));
+
+    assertTrue(scheduleAvailabilityIndex.findNextOpenSlots(TRAINER_ID, FROM, 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("채우는 도중에 커밋된 상태 변경은 채우기가 끝난 뒤 반영")
+  void updateDuringLoadIsApplied() throws InterruptedException {
+    Thread updater = new Thread(() -> scheduleAvailabilityIndex.update(
+        schedule(OPEN_AT, ScheduleStatusType.RESERVE_APPLIED)
+    ));
+    when(scheduleRepository.findOpenStartTimes(eq(TRAINER_ID), any(), any()))
+        .thenAnswer(invocation -> {
+          // 이전 데이터를 읽은 뒤 다른 요청의 변경이 커밋됨
+          updater.start();
+          awaitBlockedOrTerminated(updater);
+          return List.of(OPEN_AT);
+        });
+
+    scheduleAvailabilityIndex.findNextOpenSlots(TRAINER_ID, FROM, 10);
+    updater.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertTrue(scheduleAvailabilityIndex.findNextOpenSlots(TRAINER_ID, FROM, 10).isEmpty());
+    verify(scheduleRepository, times(1)).findOpenStartTimes(eq(TRAINER_ID), any(), any());
+  }
+
+  private ScheduleEntity schedule(LocalDateTime startAt, ScheduleStatusType status) {
+    return ScheduleEntity.builder()
+        .startAt(startAt)
+        .scheduleStatusType(status)
+        .trainer(TrainerEntity.builder().id(TRAINER_ID).build())
+        .build();
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  /**
+   * 채우기가 끝나기를 기다리거나, 기다리지 않고 끝날 때까지 대기
+   */
+  private void awaitBlockedOrTerminated(Thread thread) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      Thread.State state = thread.getState();
+      if (state == Thread.State.BLOCKED || state == Thread.State.WAITING
+          || state == Thread.State.TERMINATED) {
+        return;
+      }
+      Thread.sleep(1);
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package com.project.trainingdiary.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
+import com.project.trainingdiary.entity.PtContractEntity;
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.TraineeEntity;
+import com.project.trainingdiary.entity.TrainerEntity;
+import com.project.trainingdiary.model.CachedScheduleCalendar;
+import com.project.trainingdiary.model.ScheduleCalendarKey;
+import com.project.trainingdiary.model.ScheduleResponseDetail;
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("일정 캘린더 캐시")
+@ExtendWith(MockitoExtension.class)
+class ScheduleCalendarCacheTest {
+
+  private static final long TRAINER_ID = 1L;
+  private static final long TRAINEE_ID = 10L;
+  private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+  private static final LocalDate JAN_31 = LocalDate.of(2024, 1, 31);
+  private static final LocalDate FEB_1 = LocalDate.of(2024, 2, 1);
+  private static final LocalDate FEB_29 = LocalDate.of(2024, 2, 29);
+
+  @Mock
+  private ScheduleRepository scheduleRepository;
+
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @BeforeEach
+  void setup() {
+    Cache<ScheduleCalendarKey, CachedScheduleCalendar> calendars = Caffeine.newBuilder().build();
+    Cache<ScheduleCalendarKey, Long> changes = Caffeine.newBuilder().build();
+    scheduleCalendarCache = new ScheduleCalendarCache(scheduleRepository, calendars, changes);
+  }
+
+  @AfterEach
+  void cleanup() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("캐시에 없는 월들은 한 번에 조회해서 월별로 저장하고, 다음 조회는 캐시에서 반환")
+  void loadMissingMonthsOnce() {
+    when(scheduleRepository.getScheduleListByTrainer(eq(TRAINER_ID), any(), any()))
+        .thenReturn(List.of(day(JAN_1), day(FEB_1)));
+
+    List<ScheduleResponseDto> first = scheduleCalendarCache.getTrainerCalendar(
+        TRAINER_ID, JAN_1, FEB_29);
+    List<ScheduleResponseDto> second = scheduleCalendarCache.getTrainerCalendar(
+        TRAINER_ID, JAN_1, FEB_29);
+
+    assertEquals(List.of(JAN_1, FEB_1), dates(first));
+    assertEquals(List.of(JAN_1, FEB_1), dates(second));
+    verify(scheduleRepository, times(1)).getScheduleListByTrainer(
+        TRAINER_ID, JAN_1.atStartOfDay(), FEB_29.atTime(23, 59));
+  }
+
+  @Test
+  @DisplayName("반환한 목록이나 일정을 바꿔도 다음 조회 결과는 바뀌지 않음")
+  void returnedCalendarDoesNotChangeCache() {
+    ScheduleResponseDto schedule = day(JAN_1);
+    schedule.getDetails().add(ScheduleResponseDetail.builder()
+        .scheduleId(1L)
+        .scheduleStatus(ScheduleStatusType.OPEN)
+        .build());
+    when(scheduleRepository.getScheduleListByTrainer(eq(TRAINER_ID), any(), any()))
+        .thenReturn(new ArrayList<>(List.of(schedule, day(FEB_1))));
+
+    List<ScheduleResponseDto> first = scheduleCalendarCache.getTrainerCalendar(
+        TRAINER_ID, JAN_1, FEB_29);
+    first.get(0).setExistReserved(true);
+    first.get(0).getDetails().get(0).setScheduleStatus(ScheduleStatusType.RESERVED);
+    first.get(0).getDetails().clear();
+    first.remove(1);
+
+    List<ScheduleResponseDto> second = scheduleCalendarCache.getTrainerCalendar(
+        TRAINER_ID, JAN_1, FEB_29);
+
+    assertEquals(List.of(JAN_1, FEB_1), dates(second));
+    assertFalse(second.get(0).isExistReserved());
+    assertEquals(1, second.get(0).getDetails().size());
+    assertEquals(ScheduleStatusType.OPEN, second.get(0).getDetails().get(0).getScheduleStatus());
+    verify(scheduleRepository, times(1)).getScheduleListByTrainer(
+        TRAINER_ID, JAN_1.atStartOfDay(), FEB_29.atTime(23, 59));
+  }
+
+  @Test
+  @DisplayName("일정이 바뀐 월만 다시 조회")
+  void evictOnlyChangedMonth() {
+    when(scheduleRepository.getScheduleListByTrainer(eq(TRAINER_ID), any(), any()))
+        .thenReturn(List.of(day(JAN_1), day(FEB_1)))
+        .thenReturn(List.of(day(JAN_31)));
+
+    scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, FEB_29);
+    scheduleCalendarCache.evict(TRAINER_ID, null, JAN_31.atTime(10, 0));
+
+    assertEquals(List.of(FEB_1),
+        dates(scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, FEB_1, FEB_29)));
+    assertEquals(List.of(JAN_31, FEB_1),
+        dates(scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, FEB_29)));
+    verify(scheduleRepository, times(1)).getScheduleListByTrainer(
+        TRAINER_ID, JAN_1.atStartOfDay(), JAN_31.atTime(23, 59));
+  }
+
+  @Test
+  @DisplayName("조회하는 도중에 커밋된 변경이 있으면 조회한 결과를 다음 조회 때 사용하지 않음")
+  void changeDuringLoadIsNotServedLater() {
+    when(scheduleRepository.getScheduleListByTrainer(eq(TRAINER_ID), any(), any()))
+        .thenAnswer(invocation -> {
+          // 이전 데이터를 읽은 뒤 다른 요청의 변경이 커밋됨
+          scheduleCalendarCache.evict(TRAINER_ID, null, JAN_1.atTime(10, 0));
+          return List.of(day(JAN_1));
+        })
+        .thenReturn(List.of(day(JAN_1), day(JAN_31)));
+
+    List<ScheduleResponseDto> first = scheduleCalendarCache.getTrainerCalendar(
+        TRAINER_ID, JAN_1, JAN_31);
+    List<ScheduleResponseDto> second = scheduleCalendarCache.getTrainerCalendar(
+        TRAINER_ID, JAN_1, JAN_31);
+
+    assertEquals(List.of(JAN_1), dates(first));
+    assertEquals(List.of(JAN_1, JAN_31), dates(second));
+    verify(scheduleRepository, times(2)).getScheduleListByTrainer(eq(TRAINER_ID), any(), any());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 비우면 커밋된 이후에 반영")
+  void evictAfterCommit() {
+    when(scheduleRepository.getScheduleListByTrainer(eq(TRAINER_ID), any(), any()))
+        .thenReturn(List.of(day(JAN_1)));
+    scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, JAN_31);
+
+    TransactionSynchronizationManager.initSynchronization();
+    scheduleCalendarCache.evict(TRAINER_ID, null, JAN_1.atTime(10, 0));
+
+    // 커밋 전에는 캐시를 그대로 사용
+    scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, JAN_31);
+    verify(scheduleRepository, times(1)).getScheduleListByTrainer(eq(TRAINER_ID), any(), any());
+
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+    scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, JAN_31);
+    verify(scheduleRepository, times(2)).getScheduleListByTrainer(eq(TRAINER_ID), any(), any());
+  }
+
+  @Test
+  @DisplayName("트레이너의 일정이 바뀌면 그 트레이너와 연결된 트레이니의 캘린더도 다시 조회")
+  void trainerChangeEvictsTraineeCalendar() {
+    when(scheduleRepository.getScheduleListByTrainee(eq(TRAINER_ID), eq(TRAINEE_ID), any(), any()))
+        .thenReturn(List.of(day(JAN_1)));
+
+    scheduleCalendarCache.getTraineeCalendar(TRAINER_ID, TRAINEE_ID, JAN_1, JAN_31);
+    scheduleCalendarCache.evict(TRAINER_ID, null, JAN_1.atTime(10, 0));
+    scheduleCalendarCache.getTraineeCalendar(TRAINER_ID, TRAINEE_ID, JAN_1, JAN_31);
+
+    verify(scheduleRepository, times(2))
+        .getScheduleListByTrainee(eq(TRAINER_ID), eq(TRAINEE_ID), any(), any());
+  }
+
+  @Test
+  @DisplayName("PT 계약이 바뀌면 트레이니의 모든 월을 다시 조회")
+  void evictAllMonthsOfTrainee() {
+    when(scheduleRepository.getScheduleListByTrainee(isNull(), eq(TRAINEE_ID), any(), any()))
+        .thenReturn(List.of());
+
+    scheduleCalendarCache.getTraineeCalendar(null, TRAINEE_ID, JAN_1, FEB_29);
+    scheduleCalendarCache.evictAll(null, TRAINEE_ID);
+    scheduleCalendarCache.getTraineeCalendar(null, TRAINEE_ID, JAN_1, FEB_29);
+
+    verify(scheduleRepository, times(2))
+        .getScheduleListByTrainee(isNull(), eq(TRAINEE_ID), any(), any());
+  }
+
+  @Test
+  @DisplayName("여러 일정을 한 번에 비우면 일정의 트레이너와 트레이니의 해당 월을 모두 비움")
+  void evictSchedules() {
+    TrainerEntity trainer = TrainerEntity.builder().id(TRAINER_ID).build();
+    TraineeEntity trainee = TraineeEntity.builder().id(TRAINEE_ID).build();
+    PtContractEntity ptContract = PtContractEntity.builder()
+        .trainer(trainer).trainee(trainee).build();
+    when(scheduleRepository.getScheduleListByTrainer(eq(TRAINER_ID), any(), any()))
+        .thenReturn(List.of());
+    when(scheduleRepository.getScheduleListByTrainee(isNull(), eq(TRAINEE_ID), any(), any()))
+        .thenReturn(List.of());
+
+    scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, FEB_29);
+    scheduleCalendarCache.getTraineeCalendar(null, TRAINEE_ID, JAN_1, FEB_29);
+    scheduleCalendarCache.evict(List.of(
+        ScheduleEntity.builder().trainer(trainer).ptContract(ptContract)
+            .startAt(LocalDateTime.of(2024, 2, 1, 10, 0)).build(),
+        ScheduleEntity.builder().trainer(trainer).ptContract(ptContract)
+            .startAt(LocalDateTime.of(2024, 2, 2, 10, 0)).build()
+    ));
+    scheduleCalendarCache.getTrainerCalendar(TRAINER_ID, JAN_1, FEB_29);
+    scheduleCalendarCache.getTraineeCalendar(null, TRAINEE_ID, JAN_1, FEB_29);
+
+    verify(scheduleRepository, times(1)).getScheduleListByTrainer(
+        TRAINER_ID, FEB_1.atStartOfDay(), FEB_29.atTime(23, 59));
+    verify(scheduleRepository, times(1)).getScheduleListByTrainee(
+        null, TRAINEE_ID, FEB_1.atStartOfDay(), FEB_29.atTime(23, 59));
+  }
+
+  private ScheduleResponseDto day(LocalDate date) {
+    return ScheduleResponseDto.builder().startDate(date).details(new ArrayList<>()).build();
+  }
+
+  private List<LocalDate> dates(List<ScheduleResponseDto> schedules) {
+    return schedules.stream().map(ScheduleResponseDto::getStartDate).toList();
+  }
+}
@@ -0,0 +1,121 @@
+package com.project.trainingdiary.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.ScheduleTemplateEntity;
+import com.project.trainingdiary.entity.TrainerEntity;
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.project.trainingdiary.repository.schedule.ScheduleTemplateRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("반복 일정 생성")
+@ExtendWith(MockitoExtension.class)
+class ScheduleTemplateMaterializerTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 6, 20);
+  private static final LocalTime TEN = LocalTime.of(10, 0);
+
+  @Mock
+  private ScheduleRepository scheduleRepository;
+
+  @Mock
+  private ScheduleTemplateRepository scheduleTemplateRepository;
+
+  @Mock
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @InjectMocks
+  private ScheduleTemplateMaterializer scheduleTemplateMaterializer;
+
+  private TrainerEntity trainer;
+
+  @BeforeEach
+  void setup() {
+    trainer = TrainerEntity.builder().id(1L).build();
+  }
+
+  @Test
+  @DisplayName("한동안 생성하지 않은 반복 일정도 오늘 이후의 일정만 생성하고, 캘린더 캐시를 비움")
+  void materializeFromToday() {
+    // 2024-06-01 부터 열었지만 아직 한 번도 생성하지 않은 목요일 10시 반복 일정
+    ScheduleTemplateEntity template = ScheduleTemplateEntity.of(trainer, TODAY.getDayOfWeek(),
+        TEN, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 12, 31));
+    LocalDate until = TODAY.plusDays(28);
+    when(scheduleTemplateRepository.findPendingForUpdate(1L, until))
+        .thenReturn(List.of(template));
+    when(scheduleRepository.findScheduleDatesByDates(eq(1L), any(), any()))
+        .thenReturn(Set.of(LocalDateTime.of(TODAY.plusWeeks(1), TEN)));
+    ArgumentCaptor<List<ScheduleEntity>> captor = ArgumentCaptor.forClass(List.class);
+
+    scheduleTemplateMaterializer.materializeUpcoming(1L, TODAY);
+
+    verify(scheduleRepository).saveAllAndFlush(captor.capture());
+    // 이미 있는 다음 주 일정은 그대로 둠
+    assertEquals(
+        List.of(
+            LocalDateTime.of(TODAY, TEN),
+            LocalDateTime.of(TODAY.plusWeeks(2), TEN),
+            LocalDateTime.of(TODAY.plusWeeks(3), TEN),
+            LocalDateTime.of(TODAY.plusWeeks(4), TEN)
+        ),
+        captor.getValue().stream().map(ScheduleEntity::getStartAt).toList()
+    );
+    assertEquals(ScheduleStatusType.OPEN, captor.getValue().get(0).getScheduleStatusType());
+    assertEquals(until, template.getMaterializedUntil());
+    verify(scheduleCalendarCache).evict(captor.getValue());
+  }
+
+  @Test
+  @DisplayName("매일 생성할 때 한 트레이너의 일정이 겹쳐서 실패해도 다른 트레이너의 일정은 생성함")
+  void materializeAllUpcomingContinuesAfterFailure() {
+    List<Long> materialized = new ArrayList<>();
+    when(scheduleTemplateRepository.findPendingTrainerIds(any())).thenReturn(List.of(1L, 2L));
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0)
+          .accept(mock(TransactionStatus.class));
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+    when(scheduleTemplateRepository.findPendingForUpdate(anyLong(), any()))
+        .thenAnswer(invocation -> {
+          long trainerId = invocation.getArgument(0);
+          materialized.add(trainerId);
+          if (trainerId == 1L) {
+            throw new DataIntegrityViolationException("uk_schedule_trainer_start_at");
+          }
+          return List.of();
+        });
+
+    scheduleTemplateMaterializer.materializeAllUpcoming();
+
+    assertEquals(List.of(1L, 2L), materialized);
+  }
+}
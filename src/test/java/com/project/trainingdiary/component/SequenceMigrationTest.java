@@ -0,0 +1,80 @@
+package com.project.trainingdiary.component;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * IDENTITY 로 id 가 채워진 테이블이 있는 상태에서 시퀀스를 옮긴 뒤 새로 저장한 일정의 id 가 겹치지 않는지 확인
+ */
+@DisplayName("시퀀스 이전")
+@DataJpaTest
+@Import(SequenceMigration.class)
+@ActiveProfiles("test")
+class SequenceMigrationTest {
+
+  private static final long EXISTING_ID = 500L;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private SequenceMigration sequenceMigration;
+
+  @Test
+  @DisplayName("기존 데이터의 최대 id 뒤로 시퀀스를 옮겨서 새 일정의 id 가 겹치지 않음")
+  void nextIdAfterExistingRows() {
+    LocalDateTime startAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+    // 시퀀스로 바꾸기 전에 IDENTITY 로 저장된 일정
+    jdbcTemplate.update(
+        "insert into schedule (id, start_at, end_at, schedule_status_type, version) "
+            + "values (?, ?, ?, 'OPEN', 0)",
+        EXISTING_ID, startAt, startAt.plusHours(1)
+    );
+
+    // 애플리케이션을 다시 시작했을 때처럼 실행
+    sequenceMigration.migrate();
+
+    ScheduleEntity schedule = ScheduleEntity.builder()
+        .startAt(startAt.plusDays(1))
+        .endAt(startAt.plusDays(1).plusHours(1))
+        .scheduleStatusType(ScheduleStatusType.OPEN)
+        .build();
+    em.persist(schedule);
+    em.flush();
+
+    assertTrue(schedule.getId() > EXISTING_ID);
+  }
+
+  @Test
+  @DisplayName("시퀀스 문법이 다른 DB 에서는 시퀀스를 건드리지 않음")
+  void skipUnsupportedDatabase() {
+    JdbcTemplate postgres = mock(JdbcTemplate.class);
+    when(postgres.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+
+    new SequenceMigration(postgres).migrate();
+
+    verify(postgres, never()).queryForObject(anyString(), any(Class.class));
+    verify(postgres, never()).execute(anyString());
+  }
+}
@@ -0,0 +1,92 @@
+package com.project.trainingdiary.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("트레이너 예약 가능 시간")
+class TrainerAvailabilityTest {
+
+  private static final LocalDate BASE_DATE = LocalDate.of(2024, 3, 1);
+  private static final int DAYS = 180;
+
+  private TrainerAvailability availability;
+
+  @BeforeEach
+  void setup() {
+    availability = new TrainerAvailability(BASE_DATE, DAYS);
+  }
+
+  @Test
+  @DisplayName("범위의 첫 시간과 마지막 시간은 표시하고, 범위 밖의 시간은 무시함")
+  void windowEdges() {
+    LocalDateTime first = BASE_DATE.atStartOfDay();
+    LocalDateTime last = BASE_DATE.plusDays(DAYS - 1).atTime(23, 0);
+
+    availability.set(first.minusHours(1), true);
+    availability.set(first, true);
+    availability.set(last, true);
+    availability.set(last.plusHours(1), true);
+
+    assertEquals(List.of(first, last), availability.findNext(first.minusDays(1), 10));
+  }
+
+  @Test
+  @DisplayName("정각이 아닌 시간은 무시함")
+  void ignoreNonHourTimes() {
+    availability.set(BASE_DATE.atTime(10, 30), true);
+    availability.set(BASE_DATE.atTime(11, 0, 1), true);
+
+    assertTrue(availability.findNext(BASE_DATE.atStartOfDay(), 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("닫힌 시간은 다시 찾지 않음")
+  void setClosed() {
+    availability.set(BASE_DATE.atTime(10, 0), true);
+    availability.set(BASE_DATE.atTime(11, 0), true);
+    availability.set(BASE_DATE.atTime(10, 0), false);
+
+    assertEquals(List.of(BASE_DATE.atTime(11, 0)),
+        availability.findNext(BASE_DATE.atStartOfDay(), 10));
+  }
+
+  @Test
+  @DisplayName("가까운 순으로 최대 count개 찾음")
+  void findNextInOrderUpToCount() {
+    availability.set(BASE_DATE.plusDays(2).atTime(9, 0), true);
+    availability.set(BASE_DATE.atTime(15, 0), true);
+    availability.set(BASE_DATE.plusDays(1).atTime(8, 0), true);
+
+    assertEquals(
+        List.of(BASE_DATE.atTime(15, 0), BASE_DATE.plusDays(1).atTime(8, 0)),
+        availability.findNext(BASE_DATE.atStartOfDay(), 2)
+    );
+  }
+
+  @Test
+  @DisplayName("정각이 아닌 시간부터 찾으면 다음 정각부터 찾고, 정각이면 그 시간을 포함함")
+  void findNextFromNonHourTime() {
+    availability.set(BASE_DATE.atTime(9, 0), true);
+    availability.set(BASE_DATE.atTime(10, 0), true);
+
+    assertEquals(List.of(BASE_DATE.atTime(10, 0)),
+        availability.findNext(BASE_DATE.atTime(9, 30), 10));
+    assertEquals(List.of(BASE_DATE.atTime(9, 0), BASE_DATE.atTime(10, 0)),
+        availability.findNext(BASE_DATE.atTime(9, 0), 10));
+  }
+
+  @Test
+  @DisplayName("범위가 끝난 뒤부터 찾으면 빈 목록")
+  void findNextAfterWindow() {
+    availability.set(BASE_DATE.plusDays(DAYS - 1).atTime(23, 0), true);
+
+    assertTrue(availability.findNext(BASE_DATE.plusDays(DAYS).atStartOfDay(), 10).isEmpty());
+  }
+}
@@ -0,0 +1,146 @@
+package com.project.trainingdiary.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import com.project.trainingdiary.component.ImageBufferPool;
+import com.project.trainingdiary.component.ThumbnailEncoder;
+import com.project.trainingdiary.model.ImageRendition;
+import com.project.trainingdiary.util.PooledByteArrayOutputStream;
+import io.awspring.cloud.s3.S3Operations;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+@DisplayName("S3 이미지 업로드")
+@ExtendWith(MockitoExtension.class)
+class S3ImageProviderTest {
+
+  private static final String KEY = "original_uuid.png";
+  private static final int TARGET_SIZE = 32;
+
+  @Mock
+  private S3Operations s3Operations;
+
+  @Mock
+  private S3Client s3Client;
+
+  @Mock
+  private ThumbnailEncoder thumbnailEncoder;
+
+  private final ImageBufferPool imageBufferPool = spy(new ImageBufferPool());
+  private final AtomicBoolean released = new AtomicBoolean();
+
+  private ThreadPoolTaskExecutor imageProcessExecutor;
+  private ThreadPoolTaskExecutor imageUploadExecutor;
+
+  private S3ImageProvider s3ImageProvider;
+
+  @BeforeEach
+  void setup() {
+    imageProcessExecutor = executor();
+    imageUploadExecutor = executor();
+    s3ImageProvider = new S3ImageProvider(s3Operations, s3Client, imageBufferPool,
+        thumbnailEncoder, imageProcessExecutor, imageUploadExecutor);
+    ReflectionTestUtils.setField(s3ImageProvider, "bucket", "bucket");
+
+    doAnswer(invocation -> {
+      released.set(true);
+      return invocation.callRealMethod();
+    }).when(imageBufferPool).release(any(PooledByteArrayOutputStream.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    imageProcessExecutor.shutdown();
+    imageUploadExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("요청 본문이 버퍼를 다 읽은 뒤, putObject 가 끝나고 나서야 버퍼를 풀에 돌려놓음")
+  void releaseBufferAfterPutObject() throws IOException {
+    AtomicReference<byte[]> uploaded = new AtomicReference<>();
+    AtomicBoolean releasedDuringPut = new AtomicBoolean(true);
+    when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+        .thenAnswer(invocation -> {
+          releasedDuringPut.set(released.get());
+          RequestBody body = invocation.getArgument(1);
+          try (InputStream in = body.contentStreamProvider().newStream()) {
+            uploaded.set(in.readAllBytes());
+          }
+          return PutObjectResponse.builder().build();
+        });
+    when(s3Client.utilities()).thenReturn(
+        S3Utilities.builder().region(Region.AP_NORTHEAST_2).build()
+    );
+
+    List<String> urls = S3ImageProvider.join(s3ImageProvider.uploadImagesAsync(
+        image(), "png", List.of(new ImageRendition(KEY, TARGET_SIZE, false))
+    ));
+
+    assertFalse(releasedDuringPut.get());
+    assertTrue(released.get());
+    BufferedImage uploadedImage = ImageIO.read(new ByteArrayInputStream(uploaded.get()));
+    assertNotNull(uploadedImage);
+    assertEquals(TARGET_SIZE, uploadedImage.getWidth());
+    assertTrue(urls.get(0).endsWith("/" + KEY));
+  }
+
+  @Test
+  @DisplayName("putObject 가 실패해도 버퍼를 풀에 돌려놓음")
+  void releaseBufferWhenPutObjectFails() {
+    when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+        .thenThrow(SdkClientException.create("connection reset"));
+
+    assertThrows(CompletionException.class, () -> s3ImageProvider.uploadImagesAsync(
+        image(), "png", List.of(new ImageRendition(KEY, TARGET_SIZE, false))
+    ).join());
+
+    assertTrue(released.get());
+  }
+
+  private MockMultipartFile image() throws IOException {
+    BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return new MockMultipartFile("file", "image.png", "image/png", out.toByteArray());
+  }
+
+  private ThreadPoolTaskExecutor executor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.initialize();
+    return executor;
+  }
+}
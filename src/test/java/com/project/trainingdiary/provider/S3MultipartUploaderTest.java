@@ -0,0 +1,211 @@
+package com.project.trainingdiary.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@DisplayName("S3 멀티파트 업로더")
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+  private static final String BUCKET = "bucket";
+  private static final String KEY = "original_uuid.mp4";
+  private static final String UPLOAD_ID = "upload-id";
+  private static final int PART_SIZE = S3MultipartUploader.PART_SIZE;
+
+  @Mock
+  private S3Client s3Client;
+
+  private ThreadPoolTaskExecutor s3PartUploadExecutor;
+
+  private S3MultipartUploader s3MultipartUploader;
+
+  @BeforeEach
+  void setup() {
+    s3PartUploadExecutor = new ThreadPoolTaskExecutor();
+    s3PartUploadExecutor.setCorePoolSize(S3MultipartUploader.MAX_PARTS_IN_FLIGHT);
+    s3PartUploadExecutor.setMaxPoolSize(S3MultipartUploader.MAX_PARTS_IN_FLIGHT);
+    s3PartUploadExecutor.initialize();
+
+    s3MultipartUploader = new S3MultipartUploader(s3Client, s3PartUploadExecutor);
+    ReflectionTestUtils.setField(s3MultipartUploader, "bucket", BUCKET);
+
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    s3PartUploadExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("파트가 끝난 순서와 관계없이 파트 번호 순서대로 ETag 를 모아서 업로드를 완료함")
+  void completeWithPartsInOrder() throws Exception {
+    CountDownLatch laterPartsUploaded = new CountDownLatch(2);
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenAnswer(invocation -> {
+          int partNumber = invocation.<UploadPartRequest>getArgument(0).partNumber();
+          // 첫 번째 파트가 가장 늦게 끝나도록 함
+          if (partNumber == 1) {
+            assertTrue(laterPartsUploaded.await(5, TimeUnit.SECONDS));
+          } else {
+            laterPartsUploaded.countDown();
+          }
+          return UploadPartResponse.builder().eTag("etag-" + partNumber).build();
+        });
+    when(s3Client.utilities()).thenReturn(
+        S3Utilities.builder().region(Region.AP_NORTHEAST_2).build()
+    );
+
+    String url = s3MultipartUploader.upload(KEY, "video/mp4", stream(PART_SIZE * 2L + 100));
+
+    ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+    verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+    UploadPartRequest lastPart = partCaptor.getAllValues().stream()
+        .filter(request -> request.partNumber() == 3)
+        .findFirst()
+        .orElseThrow();
+    assertEquals(100L, lastPart.contentLength());
+
+    ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+        ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+    List<CompletedPart> parts = completeCaptor.getValue().multipartUpload().parts();
+    assertEquals(List.of(1, 2, 3), parts.stream().map(CompletedPart::partNumber).toList());
+    assertEquals(List.of("etag-1", "etag-2", "etag-3"),
+        parts.stream().map(CompletedPart::eTag).toList());
+    assertEquals(UPLOAD_ID, completeCaptor.getValue().uploadId());
+    assertTrue(url.endsWith("/" + KEY));
+    verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 취소하고 완료하지 않음")
+  void abortWhenPartFails() {
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenThrow(SdkClientException.create("connection reset"));
+
+    IOException e = assertThrows(IOException.class,
+        () -> s3MultipartUploader.upload(KEY, "video/mp4", stream(100)));
+
+    assertInstanceOf(SdkClientException.class, e.getCause());
+    verifyAborted();
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("스트림이 비어있으면 파트를 올리지 않고 멀티파트 업로드를 취소함")
+  void abortWhenStreamIsEmpty() {
+    assertThrows(IOException.class,
+        () -> s3MultipartUploader.upload(KEY, "video/mp4", new ByteArrayInputStream(new byte[0])));
+
+    verify(s3Client, never()).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+    verifyAborted();
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("동시에 올리는 파트 수가 가득 찬 상태에서 파트가 실패해도 자리를 반납해서 읽기가 멈추지 않음")
+  void releaseInFlightPermitWhenPartFails() {
+    int inFlight = S3MultipartUploader.MAX_PARTS_IN_FLIGHT;
+    CountDownLatch otherPartsStarted = new CountDownLatch(inFlight - 1);
+    CountDownLatch hold = new CountDownLatch(1);
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenAnswer(invocation -> {
+          int partNumber = invocation.<UploadPartRequest>getArgument(0).partNumber();
+          if (partNumber == 1) {
+            // 나머지 파트가 모두 자리를 차지해서 읽기가 다음 자리를 기다릴 때 실패함
+            otherPartsStarted.await(5, TimeUnit.SECONDS);
+            throw SdkClientException.create("connection reset");
+          }
+          otherPartsStarted.countDown();
+          hold.await(5, TimeUnit.SECONDS);
+          return UploadPartResponse.builder().eTag("etag-" + partNumber).build();
+        });
+
+    try {
+      assertTimeoutPreemptively(Duration.ofSeconds(3), () -> assertThrows(IOException.class,
+          () -> s3MultipartUploader.upload(KEY, "video/mp4",
+              stream((long) PART_SIZE * (inFlight + 2)))));
+    } finally {
+      hold.countDown();
+    }
+
+    verifyAborted();
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  private void verifyAborted() {
+    ArgumentCaptor<AbortMultipartUploadRequest> captor =
+        ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+    verify(s3Client).abortMultipartUpload(captor.capture());
+    assertEquals(UPLOAD_ID, captor.getValue().uploadId());
+    assertEquals(KEY, captor.getValue().key());
+  }
+
+  /**
+   * 배열을 미리 만들지 않고 size 바이트를 돌려주는 스트림
+   */
+  private InputStream stream(long size) {
+    return new InputStream() {
+      private long remaining = size;
+
+      @Override
+      public int read() {
+        if (remaining == 0) {
+          return -1;
+        }
+        remaining--;
+        return 0;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) {
+        if (remaining == 0) {
+          return -1;
+        }
+        int read = (int) Math.min(len, remaining);
+        remaining -= read;
+        return read;
+      }
+    };
+  }
+}
@@ -0,0 +1,204 @@
+package com.project.trainingdiary.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.config.CacheConfig;
+import com.project.trainingdiary.model.ParsedToken;
+import com.project.trainingdiary.repository.RedisTokenRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("토큰 프로바이더")
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+  private static final String SECRET = "training-diary-test-secret-key-0123456789";
+  private static final String OTHER_SECRET = "another-service-secret-key-9876543210abcdef";
+  private static final String EMAIL = "trainee@example.com";
+
+  @Mock
+  private RedisTokenRepository redisTokenRepository;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private Cache<String, ParsedToken> verifiedTokenCache;
+
+  private TokenProvider tokenProvider;
+
+  @BeforeEach
+  void setup() {
+    verifiedTokenCache = CacheConfig.verifiedTokenCache(nanos::get);
+    tokenProvider = new TokenProvider(redisTokenRepository, verifiedTokenCache);
+    ReflectionTestUtils.setField(tokenProvider, "secretKey", SECRET);
+    tokenProvider.init();
+  }
+
+  @Test
+  @DisplayName("유효한 토큰 - 사용자 이름과 만료 시간을 돌려줌")
+  void parseValidToken() {
+    String token = tokenProvider.createAccessToken(EMAIL);
+
+    ParsedToken parsed = tokenProvider.parse(token);
+
+    assertTrue(parsed.isValid());
+    assertFalse(parsed.isExpired());
+    assertEquals(EMAIL, parsed.getSubject());
+    assertTrue(Duration.between(LocalDateTime.now().plusHours(1), parsed.getExpiryDate())
+        .abs().compareTo(Duration.ofMinutes(1)) < 0);
+  }
+
+  @Test
+  @DisplayName("만료된 토큰 - 유효하지 않지만 리프레시를 위해 사용자 이름과 만료 시간은 돌려줌")
+  void parseExpiredToken() {
+    LocalDateTime expiryDate = LocalDateTime.now().minusMinutes(5).withNano(0);
+    String token = sign(SECRET, EMAIL, expiryDate);
+
+    ParsedToken parsed = tokenProvider.parse(token);
+
+    assertFalse(parsed.isValid());
+    assertTrue(parsed.isExpired());
+    assertEquals(EMAIL, parsed.getSubject());
+    assertEquals(expiryDate, parsed.getExpiryDate());
+  }
+
+  @Test
+  @DisplayName("변조된 토큰 - 다른 사용자의 내용에 원래 서명을 붙이면 유효하지 않음")
+  void parseTamperedToken() {
+    String token = tokenProvider.createAccessToken(EMAIL);
+    String other = tokenProvider.createAccessToken("attacker@example.com");
+    String tampered = replaceSignature(other, token);
+
+    ParsedToken parsed = tokenProvider.parse(tampered);
+
+    assertFalse(parsed.isValid());
+    assertFalse(parsed.isExpired());
+    assertNull(parsed.getSubject());
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명한 토큰 - 유효하지 않음")
+  void parseTokenSignedWithWrongKey() {
+    String token = sign(OTHER_SECRET, EMAIL, LocalDateTime.now().plusHours(1));
+
+    ParsedToken parsed = tokenProvider.parse(token);
+
+    assertFalse(parsed.isValid());
+    assertFalse(parsed.isExpired());
+    assertNull(parsed.getSubject());
+  }
+
+  @Test
+  @DisplayName("토큰이 없거나 형식이 맞지 않음 - 유효하지 않음")
+  void parseMalformedToken() {
+    assertFalse(tokenProvider.parse(null).isValid());
+    assertFalse(tokenProvider.parse("").isValid());
+    assertFalse(tokenProvider.parse("not.a.token").isValid());
+  }
+
+  @Test
+  @DisplayName("검증 캐시 - 토큰의 만료 시간이 지나면 캐시에서도 만료되어 다시 검증함")
+  void cachedTokenExpiresWithToken() {
+    String token = sign(SECRET, EMAIL, LocalDateTime.now().plusSeconds(30));
+
+    assertTrue(tokenProvider.parse(token).isValid());
+    assertNotNull(verifiedTokenCache.getIfPresent(token));
+
+    advance(Duration.ofSeconds(30));
+
+    assertNull(verifiedTokenCache.getIfPresent(token));
+  }
+
+  @Test
+  @DisplayName("검증 캐시 - 만료 시간이 먼 토큰도 최대 10분까지만 캐시함")
+  void cachedTokenExpiresAfterMaxTtl() {
+    String token = tokenProvider.createAccessToken(EMAIL);
+    tokenProvider.parse(token);
+
+    advance(Duration.ofMinutes(9));
+    assertNotNull(verifiedTokenCache.getIfPresent(token));
+
+    advance(Duration.ofMinutes(1));
+    assertNull(verifiedTokenCache.getIfPresent(token));
+  }
+
+  @Test
+  @DisplayName("검증 캐시 - 만료되었거나 유효하지 않은 토큰은 캐시하지 않음")
+  void invalidTokenIsNotCached() {
+    String expired = sign(SECRET, EMAIL, LocalDateTime.now().minusMinutes(5));
+    String wrongKey = sign(OTHER_SECRET, EMAIL, LocalDateTime.now().plusHours(1));
+
+    tokenProvider.parse(expired);
+    tokenProvider.parse(wrongKey);
+
+    assertNull(verifiedTokenCache.getIfPresent(expired));
+    assertNull(verifiedTokenCache.getIfPresent(wrongKey));
+  }
+
+  @Test
+  @DisplayName("검증 캐시 - 블랙리스트에 추가한 토큰은 캐시에서 지움")
+  void blacklistTokenInvalidatesCache() {
+    String token = tokenProvider.createAccessToken(EMAIL);
+    ParsedToken parsed = tokenProvider.parse(token);
+
+    tokenProvider.blacklistToken(token);
+
+    assertNull(verifiedTokenCache.getIfPresent(token));
+    verify(redisTokenRepository).blacklist(token, parsed.getExpiryDate());
+  }
+
+  @Test
+  @DisplayName("검증 캐시 - 캐시된 토큰의 서명을 붙인 변조 토큰은 캐시된 결과를 사용하지 않음")
+  void tamperedTokenDoesNotUseCachedEntry() {
+    String token = tokenProvider.createAccessToken(EMAIL);
+    String other = tokenProvider.createAccessToken("attacker@example.com");
+    assertTrue(tokenProvider.parse(token).isValid());
+
+    ParsedToken parsed = tokenProvider.parse(replaceSignature(other, token));
+
+    assertFalse(parsed.isValid());
+    assertNull(verifiedTokenCache.getIfPresent(replaceSignature(other, token)));
+    assertEquals(EMAIL, tokenProvider.parse(token).getSubject());
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  private String sign(String secret, String subject, LocalDateTime expiryDate) {
+    return Jwts.builder()
+        .setSubject(subject)
+        .setIssuedAt(new Date())
+        .setExpiration(Date.from(expiryDate.atZone(ZoneId.systemDefault()).toInstant()))
+        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)),
+            SignatureAlgorithm.HS256)
+        .compact();
+  }
+
+  /**
+   * token 의 헤더와 내용에 signed 의 서명을 붙임
+   */
+  private String replaceSignature(String token, String signed) {
+    return token.substring(0, token.lastIndexOf('.'))
+        + signed.substring(signed.lastIndexOf('.'));
+  }
+}
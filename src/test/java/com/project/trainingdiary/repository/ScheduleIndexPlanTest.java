@@ -0,0 +1,167 @@
+package com.project.trainingdiary.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 일정 범위 조회 쿼리가 일정 테이블을 인덱스로 읽는지 H2의 실행 계획으로 확인
+ * <p>
+ * 리포지토리 메서드를 실제로 호출해서 Hibernate/QueryDSL 이 만든 SQL 을 가로채고, 그 SQL 을 그대로 EXPLAIN 함.
+ * 빈 H2 테이블에서의 실행 계획이므로 운영 DB(MariaDB)의 통계에 따른 선택까지 보장하지는 않음
+ */
+@DisplayName("일정 인덱스 실행 계획")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.project.trainingdiary.repository.ScheduleIndexPlanTest$SqlCapture")
+@ActiveProfiles("test")
+class ScheduleIndexPlanTest {
+
+  // 유니크 제약 조건이 (trainer_id, start_at) 인덱스를 함께 만듦
+  private static final String TRAINER_START_AT = "uk_schedule_trainer_start_at";
+  private static final String PT_CONTRACT_START_AT = "idx_schedule_pt_contract_start_at";
+  private static final String START_AT_STATUS = "idx_schedule_start_at_status";
+
+  private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+  private static final LocalDateTime END = LocalDateTime.of(2024, 6, 30, 23, 59);
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private ScheduleRepository scheduleRepository;
+
+  @BeforeEach
+  void setup() {
+    SqlCapture.clear();
+  }
+
+  @Test
+  @DisplayName("findByDates - (trainer_id, start_at) 인덱스 사용")
+  void findByDatesUsesIndex() {
+    scheduleRepository.findByDates(1L, START, END);
+
+    assertUsesIndex(explainCaptured(), TRAINER_START_AT);
+  }
+
+  @Test
+  @DisplayName("findScheduleDatesByDates - (trainer_id, start_at) 인덱스 사용")
+  void findScheduleDatesByDatesUsesIndex() {
+    scheduleRepository.findScheduleDatesByDates(1L, START, END);
+
+    assertUsesIndex(explainCaptured(), TRAINER_START_AT);
+  }
+
+  @Test
+  @DisplayName("findByTraineeIdAndDateAfter - 트레이너 또는 PT 계약 인덱스 사용")
+  void findByTraineeIdAndDateAfterUsesIndex() {
+    scheduleRepository.findByTraineeIdAndDateAfter(1L, 2L, START);
+
+    assertUsesIndex(explainCaptured(), TRAINER_START_AT, PT_CONTRACT_START_AT);
+  }
+
+  @Test
+  @DisplayName("findByDatesWithDetails - (start_at, schedule_status_type) 인덱스 사용")
+  void findByDatesWithDetailsUsesIndex() {
+    scheduleRepository.findByDatesWithDetails(START, START.plusDays(1));
+
+    assertUsesIndex(explainCaptured(), START_AT_STATUS);
+  }
+
+  @Test
+  @DisplayName("트레이너 캘린더 조회(QueryDSL) - 일정 테이블을 인덱스로 읽음")
+  void trainerCalendarUsesIndex() {
+    scheduleRepository.getScheduleListByTrainer(1L, START, END);
+
+    assertUsesIndex(explainCaptured(), TRAINER_START_AT, START_AT_STATUS);
+  }
+
+  @Test
+  @DisplayName("트레이니 캘린더 조회(QueryDSL) - 일정 테이블을 인덱스로 읽음")
+  void traineeCalendarUsesIndex() {
+    scheduleRepository.getScheduleListByTrainee(1L, 2L, START, END);
+
+    assertUsesIndex(explainCaptured(), TRAINER_START_AT, PT_CONTRACT_START_AT, START_AT_STATUS);
+  }
+
+  /**
+   * 마지막으로 실행된 일정 조회 SQL 의 실행 계획. 파라미터는 바인딩하지 않고 계획만 확인함
+   */
+  private String explainCaptured() {
+    String sql = SqlCapture.lastSelect();
+    return em.unwrap(Session.class).doReturningWork(connection -> {
+      try (PreparedStatement statement = connection.prepareStatement("explain " + sql);
+          ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getString(1);
+      }
+    });
+  }
+
+  private void assertUsesIndex(String plan, String... indexNames) {
+    assertTrue(
+        Arrays.stream(indexNames).anyMatch(plan.toLowerCase()::contains),
+        () -> Arrays.toString(indexNames) + " 인덱스를 사용하지 않음: " + plan
+    );
+  }
+
+  /**
+   * Hibernate 가 실행하는 SQL 을 기록함
+   */
+  public static class SqlCapture implements StatementInspector {
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      synchronized (statements) {
+        statements.add(sql);
+      }
+      return sql;
+    }
+
+    static void clear() {
+      synchronized (statements) {
+        statements.clear();
+      }
+    }
+
+    static String lastSelect() {
+      synchronized (statements) {
+        for (int i = statements.size() - 1; i >= 0; i--) {
+          String sql = statements.get(i);
+          if (sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains("schedule")) {
+            return sql;
+          }
+        }
+      }
+      throw new IllegalStateException("실행된 일정 조회 SQL 이 없음");
+    }
+  }
+
+  @TestConfiguration
+  static class QuerydslTestConfig {
+
+    @Bean
+    public JPAQueryFactory jpaQueryFactory(EntityManager em) {
+      return new JPAQueryFactory(em);
+    }
+  }
+}
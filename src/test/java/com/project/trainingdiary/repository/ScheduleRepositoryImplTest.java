@@ -0,0 +1,156 @@
+package com.project.trainingdiary.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
+import com.project.trainingdiary.entity.PtContractEntity;
+import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.TraineeEntity;
+import com.project.trainingdiary.entity.TrainerEntity;
+import com.project.trainingdiary.model.ScheduleResponseDetail;
+import com.project.trainingdiary.model.type.ScheduleStatusType;
+import com.project.trainingdiary.model.type.UserRoleType;
+import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 캘린더 조회 결과가 날짜별로 묶이고 시간 순으로 정렬되는지 확인
+ */
+@DisplayName("일정 캘린더 조회")
+@DataJpaTest
+@ActiveProfiles("test")
+class ScheduleRepositoryImplTest {
+
+  private static final LocalDate DAY1 = LocalDate.of(2024, 3, 1);
+  private static final LocalDate DAY3 = LocalDate.of(2024, 3, 3);
+  private static final LocalDate DAY5 = LocalDate.of(2024, 3, 5);
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private ScheduleRepository scheduleRepository;
+
+  private TrainerEntity trainer;
+  private TraineeEntity trainee;
+
+  @BeforeEach
+  void setup() {
+    trainer = persist(TrainerEntity.builder()
+        .email("trainer@example.com").name("이트레이너").password("password")
+        .role(UserRoleType.TRAINER).build());
+    trainee = persist(TraineeEntity.builder()
+        .email("trainee@example.com").name("김트레이니").password("password")
+        .role(UserRoleType.TRAINEE).build());
+    TraineeEntity otherTrainee = persist(TraineeEntity.builder()
+        .email("other@example.com").name("박트레이니").password("password")
+        .role(UserRoleType.TRAINEE).build());
+    PtContractEntity ptContract = persist(PtContractEntity.of(trainer, trainee, 10));
+    PtContractEntity otherPtContract = persist(PtContractEntity.of(trainer, otherTrainee, 10));
+
+    // 3월 2일, 4일은 일정이 없고, 저장 순서는 시간 순서와 다름
+    persistSchedule(DAY3.atTime(10, 0), ScheduleStatusType.OPEN, null);
+    persistSchedule(DAY1.atTime(15, 0), ScheduleStatusType.RESERVED, ptContract);
+    persistSchedule(DAY5.atTime(11, 0), ScheduleStatusType.RESERVED, otherPtContract);
+    persistSchedule(DAY1.atTime(9, 0), ScheduleStatusType.OPEN, null);
+    persistSchedule(DAY5.atTime(8, 0), ScheduleStatusType.RESERVE_APPLIED, ptContract);
+
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  @DisplayName("트레이너 조회 - 일정이 있는 날짜만 날짜 순으로 묶고, 날짜 안에서는 시간 순으로 정렬")
+  void trainerCalendarGroupedByDate() {
+    List<ScheduleResponseDto> result = scheduleRepository.getScheduleListByTrainer(
+        trainer.getId(), DAY1.atStartOfDay(), DAY5.atTime(LocalTime.MAX)
+    );
+
+    assertEquals(List.of(DAY1, DAY3, DAY5), result.stream()
+        .map(ScheduleResponseDto::getStartDate).toList());
+
+    assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(15, 0)), startTimes(result.get(0)));
+    assertTrue(result.get(0).isExistReserved());
+
+    assertEquals(List.of(LocalTime.of(10, 0)), startTimes(result.get(1)));
+    assertFalse(result.get(1).isExistReserved());
+    assertNull(result.get(1).getDetails().get(0).getTraineeId());
+
+    assertEquals(List.of(LocalTime.of(8, 0), LocalTime.of(11, 0)), startTimes(result.get(2)));
+    assertTrue(result.get(2).isExistReserved());
+    assertEquals("박트레이니", result.get(2).getDetails().get(1).getTraineeName());
+  }
+
+  @Test
+  @DisplayName("트레이니 조회 - 다른 트레이니의 일정은 빼고 묶으며, 남은 일정으로 예약 여부를 판단")
+  void traineeCalendarExcludesOtherTrainees() {
+    List<ScheduleResponseDto> result = scheduleRepository.getScheduleListByTrainee(
+        trainer.getId(), trainee.getId(), DAY1.atStartOfDay(), DAY5.atTime(LocalTime.MAX)
+    );
+
+    assertEquals(List.of(DAY1, DAY3, DAY5), result.stream()
+        .map(ScheduleResponseDto::getStartDate).toList());
+
+    assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(15, 0)), startTimes(result.get(0)));
+    assertEquals(List.of(LocalTime.of(8, 0)), startTimes(result.get(2)));
+    assertEquals(ScheduleStatusType.RESERVE_APPLIED,
+        result.get(2).getDetails().get(0).getScheduleStatus());
+    assertFalse(result.get(2).isExistReserved());
+  }
+
+  @Test
+  @DisplayName("일정이 없는 기간 조회 - 빈 목록")
+  void emptyRange() {
+    List<ScheduleResponseDto> result = scheduleRepository.getScheduleListByTrainer(
+        trainer.getId(), LocalDate.of(2024, 3, 2).atStartOfDay(),
+        LocalDate.of(2024, 3, 2).atTime(LocalTime.MAX)
+    );
+
+    assertTrue(result.isEmpty());
+  }
+
+  private List<LocalTime> startTimes(ScheduleResponseDto dto) {
+    return dto.getDetails().stream().map(ScheduleResponseDetail::getStartTime).toList();
+  }
+
+  private void persistSchedule(LocalDateTime startAt, ScheduleStatusType status,
+      PtContractEntity ptContract) {
+    persist(ScheduleEntity.builder()
+        .startAt(startAt)
+        .endAt(startAt.plusHours(1))
+        .scheduleStatusType(status)
+        .trainer(trainer)
+        .ptContract(ptContract)
+        .build());
+  }
+
+  private <T> T persist(T entity) {
+    em.persist(entity);
+    return entity;
+  }
+
+  @TestConfiguration
+  static class QuerydslTestConfig {
+
+    @Bean
+    public JPAQueryFactory jpaQueryFactory(EntityManager em) {
+      return new JPAQueryFactory(em);
+    }
+  }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -13,10 +15,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.project.trainingdiary.component.ThumbnailEncoder;
 import com.project.trainingdiary.dto.request.diet.CreateDietRequestDto;
 import com.project.trainingdiary.dto.response.diet.DietDetailsInfoResponseDto;
 import com.project.trainingdiary.dto.response.diet.DietImageResponseDto;
 import com.project.trainingdiary.entity.DietEntity;
+import com.project.trainingdiary.entity.ImageAssetEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
 import com.project.trainingdiary.entity.TraineeEntity;
 import com.project.trainingdiary.entity.TrainerEntity;
@@ -25,6 +29,7 @@ import com.project.trainingdiary.exception.ptcontract.PtContractNotExistExceptio
 import com.project.trainingdiary.exception.user.TraineeNotFoundException;
 import com.project.trainingdiary.exception.workout.InvalidFileTypeException;
 import com.project.trainingdiary.model.UserPrincipal;
+import com.project.trainingdiary.model.type.ImageAssetType;
 import com.project.trainingdiary.model.type.UserRoleType;
 import com.project.trainingdiary.provider.S3DietImageProvider;
 import com.project.trainingdiary.repository.CommentRepository;
@@ -96,6 +101,12 @@ public class DietServiceTest {
   @Mock
   private S3DietImageProvider s3DietImageProvider;
 
+  @Mock
+  private ImageAssetService imageAssetService;
+
+  @Mock
+  private ThumbnailEncoder thumbnailEncoder;
+
   @Mock
   private Cache<String, UserPrincipal> userCache;
 
@@ -237,6 +248,7 @@ public class DietServiceTest {
 
     when(s3DietImageProvider.uploadImageToS3(mockFile)).thenReturn(
         "https://test-bucket.s3.amazonaws.com/original.jpg");
+    when(thumbnailEncoder.getFormatName()).thenReturn("webp");
 
     when(s3DietImageProvider.uploadThumbnailToS3(mockFile,
         "https://test-bucket.s3.amazonaws.com/original.jpg", "jpg"))
@@ -257,6 +269,50 @@ public class DietServiceTest {
     verify(s3DietImageProvider, times(1)).uploadImageToS3(mockFile);
     verify(s3DietImageProvider, times(1)).uploadThumbnailToS3(mockFile,
         "https://test-bucket.s3.amazonaws.com/original.jpg", "jpg");
+    verify(imageAssetService, times(1)).register(eq(ImageAssetType.DIET), anyString(),
+        eq("https://test-bucket.s3.amazonaws.com/original.jpg"),
+        eq("https://test-bucket.s3.amazonaws.com/thumb_original.jpg"), eq("webp"));
+    assertEquals("webp", savedDiet.getThumbnailFormat());
+  }
+
+  @Test
+  @DisplayName("이미지 업로드 성공 - 같은 사진이 이미 있으면 재사용")
+  void testCreateDietSuccessReuseImage() throws IOException {
+    setupTraineeAuth();
+
+    when(traineeRepository.findByEmail("trainee@example.com")).thenReturn(Optional.of(trainee));
+
+    MockMultipartFile mockFile = new MockMultipartFile(
+        "file", "test.jpg", "image/jpeg", "same image".getBytes());
+
+    CreateDietRequestDto dto = CreateDietRequestDto.builder()
+        .content("Test content")
+        .image(mockFile)
+        .build();
+
+    ImageAssetEntity imageAsset = ImageAssetEntity.builder()
+        .id(1L)
+        .assetType(ImageAssetType.DIET)
+        .originalUrl("https://test-bucket.s3.amazonaws.com/original.jpg")
+        .thumbnailUrl("https://test-bucket.s3.amazonaws.com/thumb_original.jpg")
+        .referenceCount(1)
+        .build();
+    when(imageAssetService.reuse(eq(ImageAssetType.DIET), anyString()))
+        .thenReturn(Optional.of(imageAsset));
+
+    dietService.createDiet(dto);
+
+    ArgumentCaptor<DietEntity> dietCaptor = ArgumentCaptor.forClass(DietEntity.class);
+    verify(dietRepository, times(1)).save(dietCaptor.capture());
+    DietEntity savedDiet = dietCaptor.getValue();
+
+    assertEquals("https://test-bucket.s3.amazonaws.com/original.jpg", savedDiet.getOriginalUrl());
+    assertEquals("https://test-bucket.s3.amazonaws.com/thumb_original.jpg",
+        savedDiet.getThumbnailUrl());
+
+    verify(s3DietImageProvider, never()).uploadImageToS3(any());
+    verify(s3DietImageProvider, never()).uploadThumbnailToS3(any(), any(), any());
+    verify(imageAssetService, never()).register(any(), any(), any(), any(), any());
   }
 
   @Test
@@ -486,6 +542,27 @@ public class DietServiceTest {
     verify(dietRepository, times(1)).delete(diet);
   }
 
+  @Test
+  @DisplayName("식단 삭제 - 같은 사진을 참조하는 식단이 남아 있으면 S3 객체는 삭제하지 않음")
+  void testDeleteDietKeepSharedImage() {
+    setupTraineeAuth();
+
+    DietEntity diet = new DietEntity();
+    diet.setId(1L);
+    diet.setTrainee(trainee);
+    diet.setOriginalUrl("https://test-bucket.s3.amazonaws.com/original.jpg");
+    diet.setThumbnailUrl("https://test-bucket.s3.amazonaws.com/thumb_original.jpg");
+
+    when(dietRepository.findByTraineeIdAndId(trainee.getId(), diet.getId())).thenReturn(
+        Optional.of(diet));
+    when(imageAssetService.release(diet.getOriginalUrl())).thenReturn(false);
+
+    dietService.deleteDiet(diet.getId());
+
+    verify(s3DietImageProvider, never()).deleteFileFromS3(any());
+    verify(dietRepository, times(1)).delete(diet);
+  }
+
   @Test
   @DisplayName("트레이니가 자신의 식단을 삭제할 수 없음 - 식단 존재하지 않음")
   void testDeleteDietFailDietNotExist() {
@@ -0,0 +1,95 @@
+package com.project.trainingdiary.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.trainingdiary.entity.ImageAssetEntity;
+import com.project.trainingdiary.model.type.ImageAssetType;
+import com.project.trainingdiary.repository.ImageAssetRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("이미지 에셋 서비스")
+@ExtendWith(MockitoExtension.class)
+class ImageAssetServiceTest {
+
+  private static final String ORIGINAL_URL = "https://bucket/original_hash.jpg";
+  private static final String CACHE_KEY = "WORKOUT:hash";
+
+  @Mock
+  private ImageAssetRepository imageAssetRepository;
+
+  private Cache<String, ImageAssetEntity> imageAssetCache;
+
+  private ImageAssetService imageAssetService;
+
+  private ImageAssetEntity asset;
+
+  @BeforeEach
+  void setup() {
+    imageAssetCache = Caffeine.newBuilder().build();
+    imageAssetService = new ImageAssetService(imageAssetRepository, imageAssetCache);
+    asset = ImageAssetEntity.builder()
+        .id(1L)
+        .assetType(ImageAssetType.WORKOUT)
+        .contentHash("hash")
+        .originalUrl(ORIGINAL_URL)
+        .referenceCount(1)
+        .build();
+    imageAssetCache.put(CACHE_KEY, asset);
+  }
+
+  @Test
+  @DisplayName("마지막 참조를 해제하고 에셋 삭제에 성공한 요청만 S3 객체를 삭제함")
+  void releaseLastReference() {
+    when(imageAssetRepository.findFirstByOriginalUrl(ORIGINAL_URL)).thenReturn(Optional.of(asset));
+    when(imageAssetRepository.decrementReferenceCount(1L)).thenReturn(1);
+    when(imageAssetRepository.deleteUnreferenced(1L)).thenReturn(1);
+
+    assertTrue(imageAssetService.release(ORIGINAL_URL));
+    assertNull(imageAssetCache.getIfPresent(CACHE_KEY));
+  }
+
+  @Test
+  @DisplayName("참조가 남아 있으면 에셋이 삭제되지 않으므로 S3 객체를 삭제하지 않음")
+  void releaseWithRemainingReferences() {
+    when(imageAssetRepository.findFirstByOriginalUrl(ORIGINAL_URL)).thenReturn(Optional.of(asset));
+    when(imageAssetRepository.decrementReferenceCount(1L)).thenReturn(1);
+    when(imageAssetRepository.deleteUnreferenced(1L)).thenReturn(0);
+
+    assertFalse(imageAssetService.release(ORIGINAL_URL));
+    assertNotNull(imageAssetCache.getIfPresent(CACHE_KEY));
+  }
+
+  @Test
+  @DisplayName("다른 요청이 이미 참조 수를 0으로 만들었으면 삭제를 시도하지 않고 S3 객체도 삭제하지 않음")
+  void releaseAfterOtherRequestReleased() {
+    when(imageAssetRepository.findFirstByOriginalUrl(ORIGINAL_URL)).thenReturn(Optional.of(asset));
+    when(imageAssetRepository.decrementReferenceCount(1L)).thenReturn(0);
+
+    assertFalse(imageAssetService.release(ORIGINAL_URL));
+    verify(imageAssetRepository, never()).deleteUnreferenced(anyLong());
+  }
+
+  @Test
+  @DisplayName("에셋으로 관리되지 않는 이미지는 항상 S3 객체를 삭제함")
+  void releaseUnmanagedImage() {
+    when(imageAssetRepository.findFirstByOriginalUrl(ORIGINAL_URL)).thenReturn(Optional.empty());
+
+    assertTrue(imageAssetService.release(ORIGINAL_URL));
+    verify(imageAssetRepository, never()).decrementReferenceCount(anyLong());
+  }
+}
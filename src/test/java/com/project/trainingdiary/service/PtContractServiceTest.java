@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
 import com.project.trainingdiary.dto.request.ptcontract.AddPtContractSessionRequestDto;
 import com.project.trainingdiary.dto.request.ptcontract.CreatePtContractRequestDto;
 import com.project.trainingdiary.dto.request.ptcontract.TerminatePtContractRequestDto;
@@ -78,6 +82,12 @@ class PtContractServiceTest {
   @Mock
   private FcmPushNotification fcmPushNotification;
 
+  @Mock
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @Mock
+  private ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+
   @InjectMocks
   private PtContractService ptContractService;
 
@@ -312,12 +322,10 @@ class PtContractServiceTest {
                 .build()
         ));
 
-    ArgumentCaptor<PtContractEntity> captor = ArgumentCaptor.forClass(PtContractEntity.class);
     ptContractService.addPtContractSession(dto);
 
     //then
-    verify(ptContractRepository).save(captor.capture());
-    assertEquals(20, captor.getValue().getTotalSession());
+    verify(ptContractRepository).addSession(eq(1L), eq(20), any(LocalDateTime.class));
   }
 
   @Test
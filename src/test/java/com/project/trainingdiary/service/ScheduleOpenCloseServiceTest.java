@@ -4,14 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
+import com.project.trainingdiary.component.ScheduleTemplateMaterializer;
+import com.project.trainingdiary.dto.request.schedule.OpenRecurringScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.OpenScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.RegisterScheduleRequestDto;
 import com.project.trainingdiary.dto.response.schedule.RegisterScheduleResponseDto;
@@ -19,12 +27,15 @@ import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
 import com.project.trainingdiary.entity.NotificationEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
 import com.project.trainingdiary.entity.ScheduleEntity;
+import com.project.trainingdiary.entity.ScheduleTemplateEntity;
 import com.project.trainingdiary.entity.TraineeEntity;
 import com.project.trainingdiary.entity.TrainerEntity;
 import com.project.trainingdiary.exception.ptcontract.PtContractNotEnoughSessionException;
 import com.project.trainingdiary.exception.ptcontract.PtContractNotExistException;
 import com.project.trainingdiary.exception.schedule.ScheduleAlreadyExistException;
+import com.project.trainingdiary.exception.schedule.ScheduleInvalidException;
 import com.project.trainingdiary.exception.schedule.ScheduleNotFoundException;
+import com.project.trainingdiary.exception.schedule.ScheduleRangeTooLongException;
 import com.project.trainingdiary.exception.schedule.ScheduleStatusNotOpenException;
 import com.project.trainingdiary.model.ScheduleDateTimes;
 import com.project.trainingdiary.model.ScheduleResponseDetail;
@@ -36,12 +47,13 @@ import com.project.trainingdiary.repository.TraineeRepository;
 import com.project.trainingdiary.repository.TrainerRepository;
 import com.project.trainingdiary.repository.ptContract.PtContractRepository;
 import com.project.trainingdiary.repository.schedule.ScheduleRepository;
+import com.project.trainingdiary.repository.schedule.ScheduleTemplateRepository;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -54,6 +66,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -68,6 +81,9 @@ class ScheduleOpenCloseServiceTest {
   @Mock
   private ScheduleRepository scheduleRepository;
 
+  @Mock
+  private ScheduleTemplateRepository scheduleTemplateRepository;
+
   @Mock
   private TrainerRepository trainerRepository;
 
@@ -83,12 +99,24 @@ class ScheduleOpenCloseServiceTest {
   @Mock
   private FcmPushNotification fcmPushNotification;
 
+  @Mock
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @Mock
+  private ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+
+  @Mock
+  private ScheduleTemplateMaterializer scheduleTemplateMaterializer;
+
   @InjectMocks
   private ScheduleOpenCloseService scheduleOpenCloseService;
 
   @InjectMocks
   private ScheduleTrainerService scheduleTrainerService;
 
+  // 반복 일정 테스트의 기간(2024년 7월 ~ 9월)보다 앞선 날짜
+  private static final LocalDate RECURRING_TODAY = LocalDate.of(2024, 6, 20);
+
   private TrainerEntity trainer;
   private TraineeEntity trainee;
   private List<ScheduleResponseDto> responseData;
@@ -324,17 +352,220 @@ class ScheduleOpenCloseServiceTest {
     );
   }
 
+  @Test
+  @DisplayName("일정 열기 - 실패(확인한 뒤에 같은 시간의 일정이 생성된 경우)")
+  void openScheduleFail_CreatedConcurrently() {
+    //given
+    setupTrainerAuth();
+    OpenScheduleRequestDto dto = OpenScheduleRequestDto.builder()
+        .dateTimes(List.of(
+            ScheduleDateTimes.builder()
+                .startDate(LocalDate.of(2024, 1, 1))
+                .startTimes(List.of(LocalTime.of(10, 0)))
+                .build()
+        ))
+        .build();
+
+    //when
+    when(scheduleRepository.saveAll(any()))
+        .thenThrow(new DataIntegrityViolationException("uk_schedule_trainer_start_at"));
+
+    //then
+    assertThrows(
+        ScheduleAlreadyExistException.class,
+        () -> scheduleOpenCloseService.createSchedule(dto)
+    );
+    verify(scheduleCalendarCache, never()).evict(any(List.class));
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 성공(요일과 시간마다 반복 일정 하나씩 저장)")
+  void openRecurringSchedule() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2024, 9, 30))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY))
+        .startTimes(List.of(LocalTime.of(10, 0), LocalTime.of(14, 0), LocalTime.of(20, 0)))
+        .build();
+    ArgumentCaptor<List<ScheduleTemplateEntity>> captor = ArgumentCaptor.forClass(List.class);
+
+    //when
+    scheduleOpenCloseService.createRecurringSchedule(dto, RECURRING_TODAY);
+
+    //then
+    verify(scheduleTemplateRepository).saveAll(captor.capture());
+    verify(scheduleRepository, never()).saveAll(any());
+    verify(scheduleTemplateMaterializer).materializeUpcoming(1L, RECURRING_TODAY);
+    verify(scheduleCalendarCache).evictAll(1L, null);
+    verify(scheduleAvailabilityIndex).invalidate(1L);
+    assertEquals(6, captor.getValue().size());
+    assertEquals(
+        LocalDate.of(2024, 6, 30),
+        captor.getValue().get(0).getMaterializedUntil()
+    );
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 실패(종료일이 시작일보다 빠름)")
+  void openRecurringScheduleFail_EndBeforeStart() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2024, 6, 30))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY))
+        .startTimes(List.of(LocalTime.of(10, 0)))
+        .build();
+
+    //when
+    //then
+    assertThrows(
+        ScheduleInvalidException.class,
+        () -> scheduleOpenCloseService.createRecurringSchedule(dto, RECURRING_TODAY)
+    );
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 실패(기간이 180일을 넘음)")
+  void openRecurringScheduleFail_RangeTooLong() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2025, 7, 1))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY))
+        .startTimes(List.of(LocalTime.of(10, 0)))
+        .build();
+
+    //when
+    //then
+    assertThrows(
+        ScheduleRangeTooLongException.class,
+        () -> scheduleOpenCloseService.createRecurringSchedule(dto, RECURRING_TODAY)
+    );
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 실패(시작일이 지난 날짜)")
+  void openRecurringScheduleFail_StartIsPast() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2024, 9, 30))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY))
+        .startTimes(List.of(LocalTime.of(10, 0)))
+        .build();
+
+    //when
+    //then
+    assertThrows(
+        ScheduleInvalidException.class,
+        () -> scheduleOpenCloseService.createRecurringSchedule(dto, LocalDate.of(2024, 7, 2))
+    );
+    verify(scheduleTemplateRepository, never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 실패(같은 시간에 이미 일정이 있음)")
+  void openRecurringScheduleFail_ScheduleExists() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2024, 9, 30))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY))
+        .startTimes(List.of(LocalTime.of(10, 0), LocalTime.of(14, 0)))
+        .build();
+
+    //when
+    when(scheduleRepository.findScheduleDatesByDates(
+        1L,
+        LocalDateTime.of(2024, 7, 1, 10, 0),
+        LocalDateTime.of(2024, 9, 30, 14, 0)
+    ))
+        .thenReturn(Set.of(LocalDateTime.of(2024, 7, 3, 14, 0)));
+
+    //then
+    assertThrows(
+        ScheduleAlreadyExistException.class,
+        () -> scheduleOpenCloseService.createRecurringSchedule(dto, RECURRING_TODAY)
+    );
+    verify(scheduleTemplateRepository, never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 실패(기간이 겹치는 다른 반복 일정이 같은 시간을 엶)")
+  void openRecurringScheduleFail_TemplateOverlaps() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2024, 9, 30))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY))
+        .startTimes(List.of(LocalTime.of(10, 0)))
+        .build();
+
+    //when
+    when(scheduleTemplateRepository.findOverlapping(
+        1L, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 30)
+    ))
+        .thenReturn(List.of(
+            ScheduleTemplateEntity.of(trainer, DayOfWeek.MONDAY, LocalTime.of(10, 0),
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 12, 31))
+        ));
+
+    //then
+    assertThrows(
+        ScheduleAlreadyExistException.class,
+        () -> scheduleOpenCloseService.createRecurringSchedule(dto, RECURRING_TODAY)
+    );
+    verify(scheduleTemplateRepository, never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("반복 일정 열기 - 성공(기간이 겹치는 다른 반복 일정과 시간이 다름)")
+  void openRecurringSchedule_TemplateWithOtherTime() {
+    //given
+    setupTrainerAuth();
+    OpenRecurringScheduleRequestDto dto = OpenRecurringScheduleRequestDto.builder()
+        .startDate(LocalDate.of(2024, 7, 1))
+        .endDate(LocalDate.of(2024, 9, 30))
+        .daysOfWeek(List.of(DayOfWeek.MONDAY))
+        .startTimes(List.of(LocalTime.of(10, 0)))
+        .build();
+
+    //when
+    when(scheduleTemplateRepository.findOverlapping(
+        1L, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 30)
+    ))
+        .thenReturn(List.of(
+            ScheduleTemplateEntity.of(trainer, DayOfWeek.MONDAY, LocalTime.of(11, 0),
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 12, 31))
+        ));
+    scheduleOpenCloseService.createRecurringSchedule(dto, RECURRING_TODAY);
+
+    //then
+    verify(scheduleTemplateRepository).saveAll(any());
+  }
+
   @Test
   @DisplayName("일정 닫기 - 성공")
   void closeSchedule() {
     //given
     List<Long> scheduleIds = List.of(1L, 2L, 3L);
+    LocalDateTime startAt = LocalDateTime.of(2024, 1, 1, 10, 0);
     when(scheduleRepository.findAllById(scheduleIds))
         .thenReturn(
             List.of(
-                ScheduleEntity.builder().id(1L).scheduleStatusType(ScheduleStatusType.OPEN).build(),
-                ScheduleEntity.builder().id(2L).scheduleStatusType(ScheduleStatusType.OPEN).build(),
-                ScheduleEntity.builder().id(3L).scheduleStatusType(ScheduleStatusType.OPEN).build()
+                ScheduleEntity.builder().id(1L).scheduleStatusType(ScheduleStatusType.OPEN)
+                    .trainer(trainer).startAt(startAt).build(),
+                ScheduleEntity.builder().id(2L).scheduleStatusType(ScheduleStatusType.OPEN)
+                    .trainer(trainer).startAt(startAt.plusHours(1)).build(),
+                ScheduleEntity.builder().id(3L).scheduleStatusType(ScheduleStatusType.OPEN)
+                    .trainer(trainer).startAt(startAt.plusHours(2)).build()
             )
         );
 
@@ -345,6 +576,7 @@ class ScheduleOpenCloseServiceTest {
     //then
     verify(scheduleRepository).deleteAll(captor.capture());
     assertEquals(3, captor.getValue().size());
+    verify(scheduleCalendarCache).evict(captor.getValue());
   }
 
   @Test
@@ -414,29 +646,33 @@ class ScheduleOpenCloseServiceTest {
                 .build()
         ));
 
-    when(scheduleRepository.findScheduleDatesByDates(
+    when(ptContractRepository.useSessions(1000L, 3))
+        .thenReturn(1);
+
+    when(ptContractRepository.findRemainingSession(1000L))
+        .thenReturn(7);
+
+    when(scheduleRepository.findByDates(
         1L,
         LocalDateTime.of(2024, 1, 2, 20, 0),
         LocalDateTime.of(2024, 1, 8, 22, 0)
     ))
-        .thenReturn(new HashSet<>());
+        .thenReturn(List.of());
 
     ArgumentCaptor<List<ScheduleEntity>> captorSchedule = ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<PtContractEntity> captorPtContract = ArgumentCaptor.forClass(
-        PtContractEntity.class);
     ArgumentCaptor<NotificationEntity> captorNotification = ArgumentCaptor.forClass(
         NotificationEntity.class);
 
     //then
     RegisterScheduleResponseDto response = scheduleOpenCloseService.registerSchedule(dto);
 
-    verify(scheduleRepository, times(2)).saveAll(captorSchedule.capture());
-    verify(ptContractRepository).save(captorPtContract.capture());
+    verify(scheduleTemplateMaterializer).materialize(1L, LocalDate.of(2024, 1, 8));
+    verify(scheduleRepository).saveAll(captorSchedule.capture());
+    verify(ptContractRepository).useSessions(1000L, 3);
     verify(notificationRepository).save(captorNotification.capture());
 
-    assertEquals(3, captorSchedule.getAllValues().get(0).size());
-    assertEquals(0, captorSchedule.getAllValues().get(1).size());
-    assertEquals(3, captorPtContract.getValue().getUsedSession());
+    assertEquals(3, captorSchedule.getValue().size());
+    assertTrue(captorSchedule.getValue().stream().allMatch(s -> s.getId() == null));
     assertEquals(7, response.getRemainingSession());
     assertFalse(captorNotification.getValue().isToTrainer());
     assertTrue(captorNotification.getValue().isToTrainee());
@@ -463,19 +699,17 @@ class ScheduleOpenCloseServiceTest {
                 .build()
         ));
 
-    when(scheduleRepository.findScheduleDatesByDates(
-        1L,
-        LocalDateTime.of(2024, 1, 2, 20, 0),
-        LocalDateTime.of(2024, 1, 8, 22, 0)
-    ))
-        .thenReturn(new HashSet<>(
-            List.of(LocalDateTime.of(2024, 1, 2, 20, 0))
-        ));
+    when(ptContractRepository.useSessions(1000L, 3))
+        .thenReturn(1);
+
+    // 다른 요청이 같은 계약의 횟수를 동시에 차감해서 조회해 둔 엔티티보다 적게 남음
+    when(ptContractRepository.findRemainingSession(1000L))
+        .thenReturn(4);
 
     when(scheduleRepository.findByDates(
         1L,
         LocalDateTime.of(2024, 1, 2, 20, 0),
-        LocalDateTime.of(2024, 1, 2, 20, 0)
+        LocalDateTime.of(2024, 1, 8, 22, 0)
     ))
         .thenReturn(
             List.of(
@@ -489,19 +723,53 @@ class ScheduleOpenCloseServiceTest {
         );
 
     ArgumentCaptor<List<ScheduleEntity>> captorSchedule = ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<PtContractEntity> captorPtContract = ArgumentCaptor.forClass(
-        PtContractEntity.class);
 
     //then
     RegisterScheduleResponseDto response = scheduleOpenCloseService.registerSchedule(dto);
 
-    verify(scheduleRepository, times(2)).saveAll(captorSchedule.capture());
-    verify(ptContractRepository).save(captorPtContract.capture());
+    verify(scheduleRepository).saveAll(captorSchedule.capture());
+    verify(ptContractRepository).useSessions(1000L, 3);
 
-    assertEquals(2, captorSchedule.getAllValues().get(0).size());
-    assertEquals(1, captorSchedule.getAllValues().get(1).size());
-    assertEquals(3, captorPtContract.getValue().getUsedSession());
-    assertEquals(7, response.getRemainingSession());
+    assertEquals(3, captorSchedule.getValue().size());
+    assertEquals(1,
+        captorSchedule.getValue().stream().filter(s -> Long.valueOf(100L).equals(s.getId()))
+            .count()
+    );
+    assertEquals(4, response.getRemainingSession());
+  }
+
+  @Test
+  @DisplayName("일정 등록 - 실패(같은 시간을 두 번 요청한 경우)")
+  void registerScheduleFail_DuplicateStartTime() {
+    //given
+    setupTrainerAuth();
+    RegisterScheduleRequestDto dto = new RegisterScheduleRequestDto(trainee.getId(), List.of(
+        ScheduleDateTimes.builder()
+            .startDate(LocalDate.of(2024, 1, 2))
+            .startTimes(List.of(LocalTime.of(20, 0), LocalTime.of(20, 0)))
+            .build()
+    ));
+
+    //when
+    when(ptContractRepository.findByTrainerIdAndTraineeId(1L, 10L))
+        .thenReturn(Optional.of(
+            PtContractEntity.builder()
+                .id(1000L)
+                .trainer(trainer)
+                .trainee(trainee)
+                .totalSession(10)
+                .usedSession(0)
+                .isTerminated(false)
+                .build()
+        ));
+
+    //then
+    assertThrows(
+        ScheduleInvalidException.class,
+        () -> scheduleOpenCloseService.registerSchedule(dto)
+    );
+    verify(ptContractRepository, never()).useSessions(anyLong(), anyInt());
+    verify(scheduleRepository, never()).saveAll(any());
   }
 
   @Test
@@ -525,19 +793,13 @@ class ScheduleOpenCloseServiceTest {
                 .build()
         ));
 
-    when(scheduleRepository.findScheduleDatesByDates(
-        1L,
-        LocalDateTime.of(2024, 1, 2, 20, 0),
-        LocalDateTime.of(2024, 1, 8, 22, 0)
-    ))
-        .thenReturn(new HashSet<>(
-            List.of(LocalDateTime.of(2024, 1, 2, 20, 0))
-        ));
+    when(ptContractRepository.useSessions(1000L, 3))
+        .thenReturn(1);
 
     when(scheduleRepository.findByDates(
         1L,
         LocalDateTime.of(2024, 1, 2, 20, 0),
-        LocalDateTime.of(2024, 1, 2, 20, 0)
+        LocalDateTime.of(2024, 1, 8, 22, 0)
     ))
         .thenReturn(
             List.of(
@@ -597,14 +859,8 @@ class ScheduleOpenCloseServiceTest {
                 .build()
         ));
 
-    when(scheduleRepository.findScheduleDatesByDates(
-        1L,
-        LocalDateTime.of(2024, 1, 2, 20, 0),
-        LocalDateTime.of(2024, 1, 8, 22, 0)
-    ))
-        .thenReturn(new HashSet<>(
-            List.of(LocalDateTime.of(2024, 1, 2, 20, 0))
-        ));
+    when(ptContractRepository.useSessions(1000L, 3))
+        .thenReturn(0);
 
     //then
     assertThrows(
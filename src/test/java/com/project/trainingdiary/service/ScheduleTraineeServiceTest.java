@@ -4,15 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
+import com.project.trainingdiary.component.ScheduleTemplateMaterializer;
 import com.project.trainingdiary.dto.request.schedule.ApplyScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CancelScheduleByTraineeRequestDto;
+import com.project.trainingdiary.dto.response.schedule.ApplyScheduleResponseDto;
 import com.project.trainingdiary.dto.response.schedule.CancelScheduleByTraineeResponseDto;
+import com.project.trainingdiary.dto.response.schedule.OpenSlotResponseDto;
 import com.project.trainingdiary.dto.response.schedule.ScheduleResponseDto;
 import com.project.trainingdiary.entity.NotificationEntity;
 import com.project.trainingdiary.entity.PtContractEntity;
@@ -60,6 +69,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DisplayName("일정 트레이니 서비스")
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +95,18 @@ class ScheduleTraineeServiceTest {
   @Mock
   private FcmPushNotification fcmPushNotification;
 
+  @Mock
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @Mock
+  private ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+
+  @Mock
+  private ScheduleTemplateMaterializer scheduleTemplateMaterializer;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
   @InjectMocks
   private ScheduleTraineeService scheduleTraineeService;
 
@@ -97,6 +121,13 @@ class ScheduleTraineeServiceTest {
     setupTrainee();
     setupTrainer();
     setupScheduleResponseDto();
+    setupTransactionTemplate();
+  }
+
+  private void setupTransactionTemplate() {
+    lenient().when(transactionTemplate.execute(any()))
+        .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+            .doInTransaction(mock(TransactionStatus.class)));
   }
 
   private void setupTrainee() {
@@ -233,6 +264,68 @@ class ScheduleTraineeServiceTest {
     dto.setScheduleId(100L);
     LocalDateTime currentTime = LocalDateTime.now();
 
+    LocalDateTime startAt = currentTime.plusHours(2).withMinute(0).withSecond(0).withNano(0);
+    PtContractEntity ptContract = PtContractEntity.builder()
+        .id(1000L)
+        .trainer(trainer)
+        .trainee(trainee)
+        .totalSession(20)
+        .usedSession(10)
+        .build();
+
+    //when
+    // 선점한 뒤에는 DB에 반영된 일정을 다시 읽음
+    when(scheduleRepository.findById(100L))
+        .thenReturn(
+            Optional.of(ScheduleEntity.builder().id(100L).startAt(startAt).trainer(trainer)
+                .scheduleStatusType(ScheduleStatusType.OPEN).build()),
+            Optional.of(ScheduleEntity.builder().id(100L).startAt(startAt).trainer(trainer)
+                .ptContract(ptContract)
+                .scheduleStatusType(ScheduleStatusType.RESERVE_APPLIED).build())
+        );
+
+    when(traineeRepository.findByEmail("trainee@example.com"))
+        .thenReturn(Optional.of(trainee));
+
+    when(ptContractRepository.findByTrainerIdAndTraineeId(1L, 10L))
+        .thenReturn(Optional.of(ptContract));
+
+    when(scheduleRepository.claimOpenSchedule(eq(100L), any(PtContractEntity.class)))
+        .thenReturn(1);
+
+    when(ptContractRepository.useSessions(1000L, 1))
+        .thenReturn(1);
+
+    ArgumentCaptor<ScheduleEntity> captorSchedule = ArgumentCaptor.forClass(ScheduleEntity.class);
+    ArgumentCaptor<NotificationEntity> captorNotification = ArgumentCaptor.forClass(
+        NotificationEntity.class);
+    ApplyScheduleResponseDto response = scheduleTraineeService.applySchedule(dto, currentTime);
+
+    //then
+    verify(scheduleRepository, never()).saveAndFlush(any(ScheduleEntity.class));
+    verify(ptContractRepository).useSessions(1000L, 1);
+    verify(scheduleAvailabilityIndex).update(captorSchedule.capture());
+    verify(notificationRepository).save(captorNotification.capture());
+    verify(fcmPushNotification).sendPushNotification(captorNotification.getValue());
+    assertEquals(
+        ScheduleStatusType.RESERVE_APPLIED, captorSchedule.getValue().getScheduleStatusType());
+    assertEquals(NotificationType.RESERVATION_APPLIED,
+        captorNotification.getValue().getNotificationType());
+    assertTrue(captorNotification.getValue().isToTrainer());
+    assertFalse(captorNotification.getValue().isToTrainee());
+    assertTrue(trainer.isUnreadNotification());
+    assertEquals(ScheduleStatusType.RESERVE_APPLIED, response.getScheduleStatus());
+  }
+
+  @Test
+  @DisplayName("일정 예약 신청 - 실패(다른 트레이니가 먼저 선점한 경우)")
+  void applyScheduleFail_AlreadyClaimed() {
+    //given
+    setupTraineeAuth();
+    ApplyScheduleRequestDto dto = new ApplyScheduleRequestDto();
+    dto.setScheduleId(100L);
+    LocalDateTime currentTime = LocalDateTime.now();
+
     //when
     when(scheduleRepository.findById(100L))
         .thenReturn(Optional.of(
@@ -258,25 +351,15 @@ class ScheduleTraineeServiceTest {
                 .build()
         ));
 
-    ArgumentCaptor<ScheduleEntity> captorSchedule = ArgumentCaptor.forClass(ScheduleEntity.class);
-    ArgumentCaptor<PtContractEntity> captorPtContract = ArgumentCaptor.forClass(
-        PtContractEntity.class);
-    ArgumentCaptor<NotificationEntity> captorNotification = ArgumentCaptor.forClass(
-        NotificationEntity.class);
-    scheduleTraineeService.applySchedule(dto, currentTime);
+    when(scheduleRepository.claimOpenSchedule(eq(100L), any(PtContractEntity.class)))
+        .thenReturn(0);
 
     //then
-    verify(scheduleRepository).save(captorSchedule.capture());
-    verify(ptContractRepository).save(captorPtContract.capture());
-    verify(notificationRepository).save(captorNotification.capture());
-    verify(fcmPushNotification).sendPushNotification(captorNotification.getValue());
-    assertEquals(
-        ScheduleStatusType.RESERVE_APPLIED, captorSchedule.getValue().getScheduleStatusType());
-    assertEquals(11, captorPtContract.getValue().getUsedSession());
-    assertEquals(NotificationType.RESERVATION_APPLIED,
-        captorNotification.getValue().getNotificationType());
-    assertTrue(captorNotification.getValue().isToTrainer());
-    assertFalse(captorNotification.getValue().isToTrainee());
+    assertThrows(
+        ScheduleStatusNotOpenException.class,
+        () -> scheduleTraineeService.applySchedule(dto, currentTime)
+    );
+    verify(ptContractRepository, never()).useSessions(1000L, 1);
   }
 
   @Test
@@ -330,6 +413,12 @@ class ScheduleTraineeServiceTest {
                 .build()
         ));
 
+    when(scheduleRepository.claimOpenSchedule(eq(100L), any(PtContractEntity.class)))
+        .thenReturn(1);
+
+    when(ptContractRepository.useSessions(1000L, 1))
+        .thenReturn(0);
+
     //then
     assertThrows(
         PtContractNotEnoughSessionException.class,
@@ -479,18 +568,15 @@ class ScheduleTraineeServiceTest {
         dto,
         LocalDateTime.of(2024, 7, 15, 8, 0, 0)
     );
-    ArgumentCaptor<PtContractEntity> captorPtContract = ArgumentCaptor.forClass(
-        PtContractEntity.class);
     ArgumentCaptor<ScheduleEntity> captorSchedule = ArgumentCaptor.forClass(ScheduleEntity.class);
     ArgumentCaptor<NotificationEntity> captorNotification = ArgumentCaptor.forClass(
         NotificationEntity.class);
 
     //then
-    verify(ptContractRepository).save(captorPtContract.capture());
+    verify(ptContractRepository).restoreSession(1000L);
     verify(scheduleRepository).save(captorSchedule.capture());
     verify(notificationRepository).save(captorNotification.capture());
 
-    assertEquals(4, captorPtContract.getValue().getUsedSession());
     assertEquals(ScheduleStatusType.OPEN, captorSchedule.getValue().getScheduleStatusType());
     assertEquals(ScheduleStatusType.OPEN, response.getScheduleStatus());
     assertEquals(NotificationType.RESERVATION_CANCELLED_BY_TRAINEE,
@@ -587,4 +673,83 @@ class ScheduleTraineeServiceTest {
             LocalDateTime.of(2024, 7, 15, 8, 0, 0) // 전날 아침 8시에 취소하려함
         ));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("예약 가능 일정 조회 - 성공")
+  void getOpenSlots() {
+    //given
+    setupTraineeAuth();
+    LocalDateTime now = LocalDateTime.of(2024, 7, 15, 8, 30, 0);
+    List<LocalDateTime> startTimes = List.of(
+        LocalDateTime.of(2024, 7, 15, 10, 0, 0),
+        LocalDateTime.of(2024, 7, 16, 9, 0, 0)
+    );
+
+    //when
+    when(ptContractRepository.findTrainerIdByTraineeId(10L))
+        .thenReturn(Optional.of(1L));
+    when(scheduleAvailabilityIndex.findNextOpenSlots(1L, now.plusHours(1), 2))
+        .thenReturn(startTimes);
+    when(scheduleRepository.findOpenByStartTimes(1L, startTimes))
+        .thenReturn(List.of(
+            ScheduleEntity.builder()
+                .id(100L)
+                .startAt(startTimes.get(0))
+                .scheduleStatusType(ScheduleStatusType.OPEN)
+                .trainer(trainer)
+                .build(),
+            ScheduleEntity.builder()
+                .id(101L)
+                .startAt(startTimes.get(1))
+                .scheduleStatusType(ScheduleStatusType.OPEN)
+                .trainer(trainer)
+                .build()
+        ));
+
+    List<OpenSlotResponseDto> result = scheduleTraineeService.getOpenSlots(2, now);
+
+    //then
+    verify(scheduleTemplateMaterializer).materialize(1L, LocalDate.of(2024, 7, 16));
+    assertEquals(2, result.size());
+    assertEquals(100L, result.get(0).getScheduleId());
+    assertEquals(startTimes.get(1), result.get(1).getStartAt());
+  }
+
+  @Test
+  @DisplayName("예약 가능 일정 조회 - 성공(예약 가능한 일정이 없으면 일정을 조회하지 않음)")
+  void getOpenSlots_Empty() {
+    //given
+    setupTraineeAuth();
+    LocalDateTime now = LocalDateTime.of(2024, 7, 15, 8, 30, 0);
+
+    //when
+    when(ptContractRepository.findTrainerIdByTraineeId(10L))
+        .thenReturn(Optional.of(1L));
+    when(scheduleAvailabilityIndex.findNextOpenSlots(1L, now.plusHours(1), 10))
+        .thenReturn(List.of());
+
+    List<OpenSlotResponseDto> result = scheduleTraineeService.getOpenSlots(10, now);
+
+    //then
+    assertTrue(result.isEmpty());
+    verify(scheduleRepository, never()).findOpenByStartTimes(anyLong(), any());
+    verify(scheduleTemplateMaterializer, never()).materialize(anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("예약 가능 일정 조회 - 실패(PT 계약이 없음)")
+  void getOpenSlotsFail_NoPtContract() {
+    //given
+    setupTraineeAuth();
+
+    //when
+    when(ptContractRepository.findTrainerIdByTraineeId(10L))
+        .thenReturn(Optional.empty());
+
+    //then
+    assertThrows(
+        PtContractNotExistException.class,
+        () -> scheduleTraineeService.getOpenSlots(10, LocalDateTime.now())
+    );
+  }
+}
@@ -11,6 +11,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.component.ScheduleAvailabilityIndex;
+import com.project.trainingdiary.component.ScheduleCalendarCache;
 import com.project.trainingdiary.dto.request.schedule.AcceptScheduleRequestDto;
 import com.project.trainingdiary.dto.request.schedule.CancelScheduleByTrainerRequestDto;
 import com.project.trainingdiary.dto.request.schedule.RejectScheduleRequestDto;
@@ -78,6 +80,12 @@ class ScheduleTrainerServiceTest {
   @Mock
   private FcmPushNotification fcmPushNotification;
 
+  @Mock
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @Mock
+  private ScheduleAvailabilityIndex scheduleAvailabilityIndex;
+
   @InjectMocks
   private ScheduleTrainerService scheduleTrainerService;
 
@@ -343,16 +351,13 @@ class ScheduleTrainerServiceTest {
                 .build()
         ));
 
-    ArgumentCaptor<PtContractEntity> captorPtContract = ArgumentCaptor.forClass(
-        PtContractEntity.class);
     ArgumentCaptor<NotificationEntity> captorNotification = ArgumentCaptor.forClass(
         NotificationEntity.class);
     scheduleTrainerService.rejectSchedule(dto);
 
     //then
-    verify(ptContractRepository).save(captorPtContract.capture());
+    verify(ptContractRepository).restoreSession(1000L);
     verify(notificationRepository).save(captorNotification.capture());
-    assertEquals(4, captorPtContract.getValue().getUsedSession());
     assertEquals(NotificationType.RESERVATION_REJECTED,
         captorNotification.getValue().getNotificationType());
     assertTrue(captorNotification.getValue().isToTrainee());
@@ -463,17 +468,14 @@ class ScheduleTrainerServiceTest {
 
     CancelScheduleByTrainerResponseDto response = scheduleTrainerService.cancelSchedule(
         dto);
-    ArgumentCaptor<PtContractEntity> captorPtContract = ArgumentCaptor.forClass(
-        PtContractEntity.class);
     ArgumentCaptor<ScheduleEntity> captorSchedule = ArgumentCaptor.forClass(ScheduleEntity.class);
     ArgumentCaptor<NotificationEntity> captorNotification = ArgumentCaptor.forClass(
         NotificationEntity.class);
 
     //then
-    verify(ptContractRepository).save(captorPtContract.capture());
+    verify(ptContractRepository).restoreSession(1000L);
     verify(scheduleRepository).save(captorSchedule.capture());
 
-    assertEquals(4, captorPtContract.getValue().getUsedSession());
     assertEquals(ScheduleStatusType.OPEN, captorSchedule.getValue().getScheduleStatusType());
     assertEquals(ScheduleStatusType.OPEN, response.getScheduleStatus());
     verify(notificationRepository).save(captorNotification.capture());
@@ -537,17 +539,19 @@ class ScheduleTrainerServiceTest {
   void getScheduleList() {
     setupTrainerAuth();
 
-    when(scheduleRepository.getScheduleListByTrainer(
+    when(scheduleCalendarCache.getTrainerCalendar(
         eq(1L),
-        eq(LocalDateTime.of(2024, 1, 1, 0, 0)),
-        eq(LocalDateTime.of(2024, 3, 1, 23, 59))
+        eq(LocalDate.of(2024, 1, 1)),
+        eq(LocalDate.of(2024, 3, 1))
     ))
         .thenReturn(responseData);
 
-    scheduleTrainerService.getScheduleList(
+    List<ScheduleResponseDto> schedules = scheduleTrainerService.getScheduleList(
         LocalDate.of(2024, 1, 1),
         LocalDate.of(2024, 3, 1)
     );
+
+    assertEquals(responseData, schedules);
   }
 
   @Test
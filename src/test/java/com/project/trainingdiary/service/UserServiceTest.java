@@ -30,6 +30,7 @@ import com.project.trainingdiary.exception.user.VerificationCodeNotFoundExceptio
 import com.project.trainingdiary.exception.user.VerificationCodeNotMatchedException;
 import com.project.trainingdiary.exception.user.VerificationCodeNotYetVerifiedException;
 import com.project.trainingdiary.exception.user.WrongPasswordException;
+import com.project.trainingdiary.model.ParsedToken;
 import com.project.trainingdiary.model.UserPrincipal;
 import com.project.trainingdiary.model.type.UserRoleType;
 import com.project.trainingdiary.provider.CookieProvider;
@@ -302,15 +303,21 @@ public class UserServiceTest {
         true);
     when(tokenProvider.createAccessToken(traineeEntity.getEmail())).thenReturn("accessToken");
     when(tokenProvider.createRefreshToken(traineeEntity.getEmail())).thenReturn("refreshToken");
-    when(tokenProvider.getExpiryDateFromToken("accessToken")).thenReturn(accessTokenExpiryDate);
-    when(tokenProvider.getExpiryDateFromToken("refreshToken")).thenReturn(refreshTokenExpiryDate);
+    when(tokenProvider.parse("accessToken"))
+        .thenReturn(ParsedToken.valid("trainee@example.com", accessTokenExpiryDate));
+    when(tokenProvider.parse("refreshToken"))
+        .thenReturn(ParsedToken.valid("trainee@example.com", refreshTokenExpiryDate));
 
     SignInResponseDto responseDto = userService.signIn(signInDto, request, response);
 
     assertEquals("trainee@example.com", responseDto.getEmail());
     assertEquals(UserRoleType.TRAINEE, responseDto.getRole());
-    assertEquals(accessTokenExpiryDate, tokenProvider.getExpiryDateFromToken("accessToken"));
-    assertEquals(refreshTokenExpiryDate, tokenProvider.getExpiryDateFromToken("refreshToken"));
+    verify(cookieProvider, times(1)).setCookie(response, "Access-Token", "accessToken",
+        accessTokenExpiryDate, false);
+    verify(cookieProvider, times(1)).setCookie(response, "Refresh-Token", "refreshToken",
+        refreshTokenExpiryDate, false);
+    verify(redisTokenRepository, times(1)).saveTokens("trainee@example.com", "accessToken",
+        accessTokenExpiryDate, "refreshToken", refreshTokenExpiryDate);
 
   }
 
@@ -362,13 +369,17 @@ public class UserServiceTest {
     when(cookieProvider.getCookie(request, "Access-Token")).thenReturn(accessTokenCookie);
     when(cookieProvider.getCookie(request, "Refresh-Token")).thenReturn(refreshTokenCookie);
 
-    when(tokenProvider.validateToken("accessToken")).thenReturn(true);
-    when(tokenProvider.validateToken("refreshToken")).thenReturn(true);
+    LocalDateTime expiryDate = LocalDateTime.now().plusHours(1);
+    when(tokenProvider.parse("accessToken"))
+        .thenReturn(ParsedToken.valid("trainee@example.com", expiryDate));
+    when(tokenProvider.parse("refreshToken"))
+        .thenReturn(ParsedToken.valid("trainee@example.com", expiryDate));
 
     userService.signOut(request, response);
 
     verify(tokenProvider, times(1)).blacklistToken("accessToken");
     verify(tokenProvider, times(1)).blacklistToken("refreshToken");
+    verify(redisTokenRepository, times(2)).deleteTokens("trainee@example.com");
     verify(cookieProvider, times(1)).clearCookie(response, "Access-Token", false);
     verify(cookieProvider, times(1)).clearCookie(response, "Refresh-Token", false);
   }
@@ -398,8 +409,8 @@ public class UserServiceTest {
     when(request.getCookies()).thenReturn(new Cookie[]{accessTokenCookie, refreshTokenCookie});
     when(cookieProvider.getCookie(request, "Access-Token")).thenCallRealMethod();
     when(cookieProvider.getCookie(request, "Refresh-Token")).thenCallRealMethod();
-    when(tokenProvider.validateToken("invalidAccessToken")).thenReturn(false);
-    when(tokenProvider.validateToken("invalidRefreshToken")).thenReturn(false);
+    when(tokenProvider.parse("invalidAccessToken")).thenReturn(ParsedToken.invalid());
+    when(tokenProvider.parse("invalidRefreshToken")).thenReturn(ParsedToken.invalid());
 
     userService.signOut(request, response);
 
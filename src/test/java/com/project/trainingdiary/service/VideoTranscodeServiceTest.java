@@ -0,0 +1,265 @@
+package com.project.trainingdiary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.trainingdiary.component.FcmPushNotification;
+import com.project.trainingdiary.entity.NotificationEntity;
+import com.project.trainingdiary.entity.PtContractEntity;
+import com.project.trainingdiary.entity.TraineeEntity;
+import com.project.trainingdiary.entity.TrainerEntity;
+import com.project.trainingdiary.entity.WorkoutMediaEntity;
+import com.project.trainingdiary.entity.WorkoutSessionEntity;
+import com.project.trainingdiary.model.VideoTranscodeJob;
+import com.project.trainingdiary.model.VideoUploadResult;
+import com.project.trainingdiary.model.type.WorkoutMediaStatusType;
+import com.project.trainingdiary.model.type.WorkoutMediaType;
+import com.project.trainingdiary.provider.S3ImageProvider;
+import com.project.trainingdiary.provider.S3VideoProvider;
+import com.project.trainingdiary.repository.NotificationRepository;
+import com.project.trainingdiary.repository.WorkoutMediaRepository;
+import com.project.trainingdiary.repository.WorkoutSessionRepository;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("동영상 인코딩 서비스")
+@ExtendWith(MockitoExtension.class)
+class VideoTranscodeServiceTest {
+
+  private static final long SESSION_ID = 1L;
+  private static final long MEDIA_ID = 2L;
+  private static final String UUID = "uuid";
+  private static final String ORIGINAL_URL = "https://bucket/original_uuid.mp4";
+  private static final String THUMBNAIL_URL = "https://bucket/thumb_uuid.png";
+
+  @TempDir
+  Path tempDir;
+
+  @Mock
+  private WorkoutSessionRepository workoutSessionRepository;
+
+  @Mock
+  private WorkoutMediaRepository workoutMediaRepository;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private S3VideoProvider s3VideoProvider;
+
+  @Mock
+  private S3ImageProvider s3ImageProvider;
+
+  @Mock
+  private FcmPushNotification fcmPushNotification;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private ThreadPoolTaskExecutor videoTranscodeExecutor;
+
+  @InjectMocks
+  private VideoTranscodeService videoTranscodeService;
+
+  private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+  private File source;
+  private VideoTranscodeJob job;
+  private WorkoutMediaEntity workoutMedia;
+
+  @BeforeEach
+  void setup() throws IOException {
+    source = Files.createFile(tempDir.resolve("source.mp4")).toFile();
+    job = new VideoTranscodeJob(SESSION_ID, MEDIA_ID, source, UUID);
+    workoutMedia = WorkoutMediaEntity.builder()
+        .id(MEDIA_ID)
+        .mediaType(WorkoutMediaType.VIDEO)
+        .status(WorkoutMediaStatusType.PENDING)
+        .build();
+
+    lenient().when(transactionTemplate.execute(any()))
+        .thenAnswer(invocation -> {
+          inTransaction.set(true);
+          try {
+            return invocation.<TransactionCallback<?>>getArgument(0)
+                .doInTransaction(mock(TransactionStatus.class));
+          } finally {
+            inTransaction.set(false);
+          }
+        });
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 추가한 작업은 커밋된 이후에 대기열에 들어감")
+  void enqueueAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    videoTranscodeService.enqueue(job);
+
+    verify(videoTranscodeExecutor, never()).execute(any(Runnable.class));
+
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+    synchronizations.forEach(synchronization ->
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    verify(videoTranscodeExecutor).execute(any(Runnable.class));
+    assertTrue(source.exists());
+  }
+
+  @Test
+  @DisplayName("트랜잭션이 롤백되면 작업을 추가하지 않고 임시 파일을 지움")
+  void enqueueRolledBack() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    videoTranscodeService.enqueue(job);
+    TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verify(videoTranscodeExecutor, never()).execute(any(Runnable.class));
+    assertFalse(source.exists());
+  }
+
+  @Test
+  @DisplayName("인코딩이 끝나면 미디어를 완료 처리하고 커밋 후에 푸시를 보냄")
+  void transcodeComplete() throws Exception {
+    TrainerEntity trainer = TrainerEntity.builder().id(10L).build();
+    runTasksImmediately();
+    when(s3VideoProvider.uploadVideo(source, UUID))
+        .thenReturn(new VideoUploadResult(ORIGINAL_URL, THUMBNAIL_URL));
+    when(workoutSessionRepository.findById(SESSION_ID))
+        .thenReturn(Optional.of(workoutSession(trainer)));
+    when(workoutMediaRepository.findById(MEDIA_ID)).thenReturn(Optional.of(workoutMedia));
+    doAnswer(invocation -> {
+      assertFalse(inTransaction.get());
+      return null;
+    }).when(fcmPushNotification).sendPushNotification(any(NotificationEntity.class));
+
+    videoTranscodeService.enqueue(job);
+
+    assertEquals(WorkoutMediaStatusType.COMPLETED, workoutMedia.getStatus());
+    assertEquals(ORIGINAL_URL, workoutMedia.getOriginalUrl());
+    assertEquals(THUMBNAIL_URL, workoutMedia.getThumbnailUrl());
+    assertTrue(trainer.isUnreadNotification());
+    verify(notificationRepository).save(any(NotificationEntity.class));
+    verify(fcmPushNotification).sendPushNotification(any(NotificationEntity.class));
+    verify(s3ImageProvider, never()).deleteMedia(any());
+    assertFalse(source.exists());
+  }
+
+  @Test
+  @DisplayName("인코딩 도중 운동 일지가 삭제되었으면 트랜잭션이 끝난 뒤 업로드한 파일을 지움")
+  void transcodeCompleteAfterSessionDeleted() throws Exception {
+    List<Boolean> deletedInTransaction = new ArrayList<>();
+    runTasksImmediately();
+    when(s3VideoProvider.uploadVideo(source, UUID))
+        .thenReturn(new VideoUploadResult(ORIGINAL_URL, THUMBNAIL_URL));
+    when(workoutSessionRepository.findById(SESSION_ID)).thenReturn(Optional.empty());
+    when(workoutMediaRepository.findById(MEDIA_ID)).thenReturn(Optional.empty());
+    doAnswer(invocation -> deletedInTransaction.add(inTransaction.get()))
+        .when(s3ImageProvider).deleteMedia(any());
+
+    videoTranscodeService.enqueue(job);
+
+    InOrder inOrder = inOrder(transactionTemplate, s3ImageProvider);
+    inOrder.verify(transactionTemplate).execute(any());
+    inOrder.verify(s3ImageProvider).deleteMedia(ORIGINAL_URL);
+    inOrder.verify(s3ImageProvider).deleteMedia(THUMBNAIL_URL);
+    assertEquals(List.of(false, false), deletedInTransaction);
+    verify(notificationRepository, never()).save(any(NotificationEntity.class));
+    verify(fcmPushNotification, never()).sendPushNotification(any(NotificationEntity.class));
+    assertFalse(source.exists());
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차서 작업이 거절되면 미디어를 실패 처리하고 임시 파일을 지움")
+  void submitRejected() throws Exception {
+    doThrow(new TaskRejectedException("full"))
+        .when(videoTranscodeExecutor).execute(any(Runnable.class));
+    when(workoutMediaRepository.findById(MEDIA_ID)).thenReturn(Optional.of(workoutMedia));
+
+    videoTranscodeService.enqueue(job);
+
+    assertEquals(WorkoutMediaStatusType.FAILED, workoutMedia.getStatus());
+    verify(workoutMediaRepository).save(workoutMedia);
+    verify(s3VideoProvider, never()).uploadVideo(any(), any());
+    assertFalse(source.exists());
+  }
+
+  @Test
+  @DisplayName("인코딩이 중단되면 미디어를 실패 처리하고 인터럽트 상태를 유지함")
+  void transcodeInterrupted() throws Exception {
+    runTasksImmediately();
+    when(s3VideoProvider.uploadVideo(source, UUID)).thenThrow(new InterruptedException());
+    when(workoutMediaRepository.findById(MEDIA_ID)).thenReturn(Optional.of(workoutMedia));
+
+    videoTranscodeService.enqueue(job);
+
+    assertTrue(Thread.interrupted());
+    assertEquals(WorkoutMediaStatusType.FAILED, workoutMedia.getStatus());
+    assertFalse(source.exists());
+  }
+
+  private void runTasksImmediately() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(videoTranscodeExecutor).execute(any(Runnable.class));
+  }
+
+  private WorkoutSessionEntity workoutSession(TrainerEntity trainer) {
+    PtContractEntity ptContract = PtContractEntity.builder()
+        .trainer(trainer)
+        .trainee(TraineeEntity.builder().id(20L).name("트레이니").build())
+        .build();
+    return WorkoutSessionEntity.builder()
+        .id(SESSION_ID)
+        .sessionNumber(3)
+        .sessionDate(LocalDate.of(2024, 6, 20))
+        .ptContract(ptContract)
+        .build();
+  }
+}
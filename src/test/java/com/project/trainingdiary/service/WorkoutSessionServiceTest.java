@@ -8,8 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -18,6 +18,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.project.trainingdiary.component.ThumbnailEncoder;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutCreateRequestDto;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutImageRequestDto;
 import com.project.trainingdiary.dto.request.workout.session.WorkoutSessionCreateRequestDto;
@@ -39,13 +40,16 @@ import com.project.trainingdiary.exception.ptcontract.PtContractNotFoundExceptio
 import com.project.trainingdiary.exception.user.InvalidUserRoleTypeException;
 import com.project.trainingdiary.exception.workout.InvalidFileTypeException;
 import com.project.trainingdiary.exception.workout.MediaCountExceededException;
+import com.project.trainingdiary.exception.workout.VideoProcessingBusyException;
 import com.project.trainingdiary.exception.workout.WorkoutNotFoundException;
 import com.project.trainingdiary.exception.workout.WorkoutSessionAccessDeniedException;
 import com.project.trainingdiary.exception.workout.WorkoutSessionAlreadyExistException;
 import com.project.trainingdiary.exception.workout.WorkoutSessionNotFoundException;
 import com.project.trainingdiary.exception.workout.WorkoutTypeNotFoundException;
+import com.project.trainingdiary.model.ImageRendition;
+import com.project.trainingdiary.model.VideoTranscodeJob;
+import com.project.trainingdiary.model.type.WorkoutMediaStatusType;
 import com.project.trainingdiary.provider.S3ImageProvider;
-import com.project.trainingdiary.provider.S3VideoProvider;
 import com.project.trainingdiary.repository.TraineeRepository;
 import com.project.trainingdiary.repository.TrainerRepository;
 import com.project.trainingdiary.repository.WorkoutMediaRepository;
@@ -68,6 +72,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import javax.imageio.ImageIO;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +95,8 @@ import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -124,7 +131,13 @@ class WorkoutSessionServiceTest {
   private S3Operations s3Operations;
 
   @Mock
-  private S3VideoProvider s3VideoProvider;
+  private VideoTranscodeService videoTranscodeService;
+
+  @Mock
+  private ImageAssetService imageAssetService;
+
+  @Mock
+  private ThumbnailEncoder thumbnailEncoder;
 
   @Mock
   private S3ImageProvider s3ImageProvider;
@@ -546,6 +559,76 @@ class WorkoutSessionServiceTest {
     assertEquals(workoutSession.getId(), capturedWorkoutSession.getId());
   }
 
+  @Test
+  @DisplayName("운동 일지 삭제 성공 - S3 객체는 커밋 이후에 삭제하고, 다른 곳에서 참조하는 이미지는 남김")
+  void testDeleteWorkoutSessionDeletesMediaAfterCommit() {
+    Authentication authentication = new TestingAuthenticationToken("trainer@gmail.com", null,
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_TRAINER")));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    WorkoutMediaEntity sharedImage = WorkoutMediaEntity.builder().id(1000000L).mediaType(IMAGE)
+        .originalUrl("https://bucket.s3.amazonaws.com/shared")
+        .thumbnailUrl("https://bucket.s3.amazonaws.com/shared_thumb").build();
+    WorkoutMediaEntity workoutVideo = WorkoutMediaEntity.builder().id(1000001L).mediaType(VIDEO)
+        .originalUrl("https://bucket.s3.amazonaws.com/media1")
+        .thumbnailUrl("https://bucket.s3.amazonaws.com/thumb1").build();
+
+    workoutSession = WorkoutSessionEntity.builder().id(10000L).sessionDate(LocalDate.now())
+        .sessionNumber(1).ptContract(ptContract).workouts(Collections.singletonList(workout))
+        .workoutMedia(List.of(sharedImage, workoutVideo)).build();
+
+    when(workoutSessionRepository.findByPtContract_TrainerAndId(trainer, workoutSession.getId()))
+        .thenReturn(Optional.of(workoutSession));
+    when(imageAssetService.release(sharedImage.getOriginalUrl())).thenReturn(false);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      workoutSessionService.deleteWorkoutSession(workoutSession.getId());
+
+      verify(s3ImageProvider, never()).deleteMedia(any());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    verify(s3ImageProvider).deleteMedia("https://bucket.s3.amazonaws.com/media1");
+    verify(s3ImageProvider).deleteMedia("https://bucket.s3.amazonaws.com/thumb1");
+    verify(s3ImageProvider, times(2)).deleteMedia(any());
+  }
+
+  @Test
+  @DisplayName("운동 일지 삭제 실패 - 트랜잭션이 롤백되면 S3 객체를 삭제하지 않음")
+  void testDeleteWorkoutSessionRolledBackKeepsMedia() {
+    Authentication authentication = new TestingAuthenticationToken("trainer@gmail.com", null,
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_TRAINER")));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    WorkoutMediaEntity workoutMedia = WorkoutMediaEntity.builder().id(1000000L)
+        .originalUrl("https://bucket.s3.amazonaws.com/media1")
+        .thumbnailUrl("https://bucket.s3.amazonaws.com/thumb1").build();
+
+    workoutSession = WorkoutSessionEntity.builder().id(10000L).sessionDate(LocalDate.now())
+        .sessionNumber(1).ptContract(ptContract).workouts(Collections.singletonList(workout))
+        .workoutMedia(Collections.singletonList(workoutMedia)).build();
+
+    when(workoutSessionRepository.findByPtContract_TrainerAndId(trainer, workoutSession.getId()))
+        .thenReturn(Optional.of(workoutSession));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      workoutSessionService.deleteWorkoutSession(workoutSession.getId());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+          synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    verify(s3ImageProvider, never()).deleteMedia(any());
+  }
+
   @Test
   @DisplayName("운동 일지 삭제 실패 - 운동 일지를 찾을 수 없을 때 예외 발생")
   void testDeleteWorkoutSessionFailSessionNotFound() {
@@ -738,25 +821,22 @@ class WorkoutSessionServiceTest {
     String thumbnailUrl = "http://example.com/thumb_" + uuid + ".jpg";
 
     ArgumentCaptor<MultipartFile> fileCaptor = ArgumentCaptor.forClass(MultipartFile.class);
-    ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<String> extensionCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<Integer> widthCaptor = ArgumentCaptor.forClass(Integer.class);
+    ArgumentCaptor<List<ImageRendition>> renditionCaptor = ArgumentCaptor.forClass(List.class);
 
     doAnswer(invocation -> {
-      MultipartFile file = invocation.getArgument(0);
-      String key = invocation.getArgument(1);
-      String extension = invocation.getArgument(2);
-      Integer width = invocation.getArgument(3);
-
-      if (width.equals(360)) {
-        return originalUrl;
-      } else if (width.equals(250)) {
-        return thumbnailUrl;
-      } else {
-        throw new IllegalArgumentException("Unexpected width: " + width);
-      }
-    }).when(s3ImageProvider).uploadImage(
-        fileCaptor.capture(), keyCaptor.capture(), extensionCaptor.capture(), widthCaptor.capture()
+      List<ImageRendition> renditions = invocation.getArgument(2);
+      return CompletableFuture.completedFuture(renditions.stream().map(rendition -> {
+        if (rendition.getTargetSize() == 360) {
+          return originalUrl;
+        } else if (rendition.getTargetSize() == 250) {
+          return thumbnailUrl;
+        } else {
+          throw new IllegalArgumentException("Unexpected width: " + rendition.getTargetSize());
+        }
+      }).toList());
+    }).when(s3ImageProvider).uploadImagesAsync(
+        fileCaptor.capture(), extensionCaptor.capture(), renditionCaptor.capture()
     );
 
     WorkoutImageRequestDto dto = WorkoutImageRequestDto.builder()
@@ -766,16 +846,17 @@ class WorkoutSessionServiceTest {
 
     WorkoutImageResponseDto result = workoutSessionService.uploadWorkoutImage(dto);
 
-    verify(s3ImageProvider, times(2)).uploadImage(
-        fileCaptor.capture(), keyCaptor.capture(), extensionCaptor.capture(), widthCaptor.capture()
+    // 파일 하나당 한 번만 호출되어야 함
+    verify(s3ImageProvider, times(1)).uploadImagesAsync(
+        fileCaptor.capture(), extensionCaptor.capture(), renditionCaptor.capture()
     );
+    verify(workoutMediaRepository, times(1)).saveAll(anyList());
 
-    List<MultipartFile> capturedFiles = fileCaptor.getAllValues();
-    List<Integer> capturedWidths = widthCaptor.getAllValues();
-
-    assertEquals("test.jpg", capturedFiles.get(0).getOriginalFilename());
-    assertEquals("test.jpg", capturedFiles.get(1).getOriginalFilename());
+    assertEquals("test.jpg", fileCaptor.getValue().getOriginalFilename());
+    assertEquals("jpg", extensionCaptor.getValue());
 
+    List<Integer> capturedWidths = renditionCaptor.getValue().stream()
+        .map(ImageRendition::getTargetSize).toList();
     assertTrue(capturedWidths.contains(360));
     assertTrue(capturedWidths.contains(250));
 
@@ -862,22 +943,22 @@ class WorkoutSessionServiceTest {
     ArgumentCaptor<MultipartFile> fileCaptor = ArgumentCaptor.forClass(MultipartFile.class);
     ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<String> extensionCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<Integer> widthCaptor = ArgumentCaptor.forClass(Integer.class);
+    ArgumentCaptor<List<ImageRendition>> renditionCaptor = ArgumentCaptor.forClass(List.class);
 
     doThrow(new InvalidFileTypeException())
         .when(s3ImageProvider)
-        .uploadImage(fileCaptor.capture(), keyCaptor.capture(), extensionCaptor.capture(),
-            widthCaptor.capture());
+        .uploadImagesAsync(fileCaptor.capture(), extensionCaptor.capture(),
+            renditionCaptor.capture());
 
     assertThrows(InvalidFileTypeException.class,
         () -> workoutSessionService.uploadWorkoutImage(imageRequestDto));
 
-    verify(s3ImageProvider, times(1)).uploadImage(fileCaptor.capture(), keyCaptor.capture(),
-        extensionCaptor.capture(), widthCaptor.capture());
+    verify(s3ImageProvider, times(1)).uploadImagesAsync(fileCaptor.capture(),
+        extensionCaptor.capture(), renditionCaptor.capture());
 
     assertEquals("test.txt", fileCaptor.getValue().getOriginalFilename());
     assertEquals("txt", extensionCaptor.getValue());
-    assertEquals(360, widthCaptor.getValue());
+    assertEquals(360, renditionCaptor.getValue().get(0).getTargetSize());
 
     ArgumentCaptor<WorkoutMediaEntity> mediaCaptor = ArgumentCaptor.forClass(
         WorkoutMediaEntity.class);
@@ -887,6 +968,7 @@ class WorkoutSessionServiceTest {
     ArgumentCaptor<WorkoutSessionEntity> sessionCaptor = ArgumentCaptor.forClass(
         WorkoutSessionEntity.class);
 
+    verify(workoutMediaRepository, never()).saveAll(anyList());
     verify(workoutMediaRepository, never()).save(mediaCaptor.capture());
     verify(s3Operations, never()).upload(bucketCaptor.capture(), keyCaptor.capture(),
         inputStreamCaptor.capture(), metadataCaptor.capture());
@@ -902,7 +984,7 @@ class WorkoutSessionServiceTest {
 
   @Test
   @DisplayName("동영상 업로드 성공")
-  public void testUploadWorkoutVideoSuccess() throws IOException, InterruptedException {
+  public void testUploadWorkoutVideoSuccess() throws IOException {
     Authentication authentication = new TestingAuthenticationToken("trainer@gmail.com", null,
         Collections.singletonList(new SimpleGrantedAuthority("ROLE_TRAINER")));
     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -919,10 +1001,6 @@ class WorkoutSessionServiceTest {
         .sessionId(workoutSession.getId())
         .video(video).build();
 
-    String originalUrl = "https://test-bucket.s3.amazonaws.com/original";
-
-    when(s3VideoProvider.uploadVideo(eq(video), anyString())).thenReturn(originalUrl);
-
     WorkoutVideoResponseDto response = workoutSessionService.uploadWorkoutVideo(videoRequestDto);
 
     ArgumentCaptor<WorkoutMediaEntity> mediaCaptor = ArgumentCaptor
@@ -930,8 +1008,14 @@ class WorkoutSessionServiceTest {
     verify(workoutMediaRepository, times(1)).save(mediaCaptor.capture());
     WorkoutMediaEntity savedMedia = mediaCaptor.getValue();
     assertEquals("VIDEO", savedMedia.getMediaType().name());
+    assertEquals(WorkoutMediaStatusType.PENDING, savedMedia.getStatus());
 
-    verify(s3VideoProvider, times(1)).uploadVideo(eq(video), anyString());
+    ArgumentCaptor<VideoTranscodeJob> jobCaptor = ArgumentCaptor.forClass(VideoTranscodeJob.class);
+    verify(videoTranscodeService, times(1)).enqueue(jobCaptor.capture());
+    VideoTranscodeJob job = jobCaptor.getValue();
+    assertEquals(workoutSession.getId(), job.getSessionId());
+    assertNotNull(job.getUuid());
+    assertTrue(job.getSource().delete());
 
     ArgumentCaptor<WorkoutSessionEntity> sessionCaptor = ArgumentCaptor
         .forClass(WorkoutSessionEntity.class);
@@ -940,10 +1024,40 @@ class WorkoutSessionServiceTest {
     assertEquals(1, savedSession.getWorkoutMedia().size());
 
     assertEquals(workoutSession.getId(), response.getSessionId());
+    assertEquals(WorkoutMediaStatusType.PENDING, response.getStatus());
     assertNotNull(response.getOriginalUrls());
     assertNotNull(response.getThumbnailUrls());
   }
 
+  @Test
+  @DisplayName("동영상 업로드 성공 - 인코딩에 실패한 동영상은 개수에 포함하지 않음")
+  public void testUploadWorkoutVideoSuccessIgnoringFailedVideos() throws IOException {
+    Authentication authentication = new TestingAuthenticationToken("trainer@gmail.com", null,
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_TRAINER")));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    workoutSession.getWorkoutMedia().addAll(Collections.nCopies(10,
+        WorkoutMediaEntity.builder().mediaType(VIDEO).status(WorkoutMediaStatusType.FAILED)
+            .build()));
+    when(trainerRepository.findByEmail("trainer@gmail.com")).thenReturn(Optional.of(trainer));
+    when(workoutSessionRepository.findByPtContract_TrainerAndId(trainer, workoutSession.getId()))
+        .thenReturn(Optional.of(workoutSession));
+    when(video.getContentType()).thenReturn("video/mp4");
+    when(video.getOriginalFilename()).thenReturn("test-video.mp4");
+    when(video.getInputStream()).thenReturn(new ByteArrayInputStream("video".getBytes()));
+
+    WorkoutVideoRequestDto videoRequestDto = WorkoutVideoRequestDto.builder()
+        .sessionId(workoutSession.getId())
+        .video(video).build();
+
+    WorkoutVideoResponseDto response = workoutSessionService.uploadWorkoutVideo(videoRequestDto);
+
+    ArgumentCaptor<VideoTranscodeJob> jobCaptor = ArgumentCaptor.forClass(VideoTranscodeJob.class);
+    verify(videoTranscodeService, times(1)).enqueue(jobCaptor.capture());
+    assertTrue(jobCaptor.getValue().getSource().delete());
+    assertEquals(WorkoutMediaStatusType.PENDING, response.getStatus());
+  }
+
   @Test
   @DisplayName("동영상 업로드 실패 - 운동 일지를 찾을 수 없을 때 예외 발생")
   public void testUploadWorkoutVideoFailWorkoutSessionNotFound() {
@@ -1069,4 +1183,29 @@ class WorkoutSessionServiceTest {
     assertTrue(sessionCaptor.getAllValues().isEmpty());
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("동영상 업로드 실패 - 인코딩 대기열이 가득 차면 예외 발생")
+  public void testUploadWorkoutVideoFailQueueFull() {
+    Authentication authentication = new TestingAuthenticationToken("trainer@gmail.com", null,
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_TRAINER")));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    when(trainerRepository.findByEmail("trainer@gmail.com")).thenReturn(Optional.of(trainer));
+    when(workoutSessionRepository.findByPtContract_TrainerAndId(trainer, workoutSession.getId()))
+        .thenReturn(Optional.of(workoutSession));
+    when(video.getContentType()).thenReturn("video/mp4");
+    when(video.getOriginalFilename()).thenReturn("test-video.mp4");
+    doThrow(new VideoProcessingBusyException()).when(videoTranscodeService).checkCapacity();
+
+    WorkoutVideoRequestDto dto = WorkoutVideoRequestDto.builder()
+        .sessionId(workoutSession.getId()).video(video).build();
+
+    assertThrows(VideoProcessingBusyException.class,
+        () -> workoutSessionService.uploadWorkoutVideo(dto));
+
+    verify(workoutMediaRepository, never()).save(any(WorkoutMediaEntity.class));
+    verify(workoutSessionRepository, never()).save(any(WorkoutSessionEntity.class));
+    verify(videoTranscodeService, never()).enqueue(any(VideoTranscodeJob.class));
+  }
+
+}
@@ -0,0 +1,124 @@
+package com.project.trainingdiary.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.project.trainingdiary.exception.workout.ImageTooLargeException;
+import com.project.trainingdiary.exception.workout.InvalidFileTypeException;
+import com.project.trainingdiary.model.ImageInfo;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+@DisplayName("미디어 유틸")
+class MediaUtilTest {
+
+  @Test
+  @DisplayName("이미지 헤더 확인 성공 - 디코딩 없이 형식과 해상도를 읽음")
+  void inspectImageSuccess() throws IOException {
+    MockMultipartFile file = new MockMultipartFile(
+        "image", "photo.png", "image/png", samplePng()
+    );
+
+    ImageInfo imageInfo = MediaUtil.inspectImage(file);
+
+    assertEquals("png", imageInfo.getFormatName());
+    assertEquals(40, imageInfo.getWidth());
+    assertEquals(30, imageInfo.getHeight());
+  }
+
+  @Test
+  @DisplayName("이미지 헤더 확인 성공 - 확장자가 달라도 실제 파일 형식을 따름")
+  void inspectImageUsesActualFormat() throws IOException {
+    MockMultipartFile file = new MockMultipartFile(
+        "image", "photo.jpg", "image/jpeg", samplePng()
+    );
+
+    ImageInfo imageInfo = MediaUtil.inspectImage(file);
+
+    assertEquals("png", imageInfo.getFormatName());
+  }
+
+  @Test
+  @DisplayName("이미지 헤더 확인 실패 - 이미지 확장자와 콘텐츠 타입을 가진 이미지가 아닌 파일")
+  void inspectImageFailSpoofedExtension() {
+    MockMultipartFile file = new MockMultipartFile(
+        "image", "photo.jpg", "image/jpeg", "<script>alert(1)</script>".getBytes()
+    );
+
+    assertThrows(InvalidFileTypeException.class, () -> MediaUtil.inspectImage(file));
+  }
+
+  @Test
+  @DisplayName("이미지 헤더 확인 실패 - 헤더에 적힌 해상도가 5천만 화소를 넘으면 디코딩 전에 거절")
+  void inspectImageFailTooLarge() {
+    // 픽셀 데이터 없이 10000x10000 (1억 화소) 크기를 선언한 PNG 헤더
+    MockMultipartFile file = new MockMultipartFile(
+        "image", "photo.png", "image/png", pngHeader(10_000, 10_000)
+    );
+
+    assertThrows(ImageTooLargeException.class, () -> MediaUtil.inspectImage(file));
+  }
+
+  @Test
+  @DisplayName("이미지 헤더 확인 성공 - 5천만 화소 이하는 허용")
+  void inspectImageSuccessAtPixelLimit() throws IOException {
+    MockMultipartFile file = new MockMultipartFile(
+        "image", "photo.png", "image/png", pngHeader(10_000, 5_000)
+    );
+
+    ImageInfo imageInfo = MediaUtil.inspectImage(file);
+
+    assertEquals(10_000, imageInfo.getWidth());
+    assertEquals(5_000, imageInfo.getHeight());
+  }
+
+  @Test
+  @DisplayName("이미지 헤더 확인 실패 - 매직 바이트만 있고 헤더가 잘린 파일")
+  void inspectImageFailTruncatedHeader() {
+    MockMultipartFile png = new MockMultipartFile(
+        "image", "photo.png", "image/png", Arrays.copyOf(pngHeader(100, 100), 16)
+    );
+    MockMultipartFile jpeg = new MockMultipartFile(
+        "image", "photo.jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}
+    );
+
+    assertThrows(InvalidFileTypeException.class, () -> MediaUtil.inspectImage(png));
+    assertThrows(InvalidFileTypeException.class, () -> MediaUtil.inspectImage(jpeg));
+  }
+
+  /**
+   * 40x30 크기의 PNG 파일
+   */
+  private byte[] samplePng() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * PNG 시그니처와 IHDR 청크만 있는 파일
+   */
+  private byte[] pngHeader(int width, int height) {
+    ByteBuffer buffer = ByteBuffer.allocate(33);
+    buffer.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+    buffer.putInt(13);
+    int chunkStart = buffer.position();
+    buffer.put(new byte[]{'I', 'H', 'D', 'R'});
+    buffer.putInt(width);
+    buffer.putInt(height);
+    // 비트 깊이 8, RGB, 압축/필터/인터레이스 0
+    buffer.put(new byte[]{8, 2, 0, 0, 0});
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), chunkStart, 17);
+    buffer.putInt((int) crc.getValue());
+    return buffer.array();
+  }
+}
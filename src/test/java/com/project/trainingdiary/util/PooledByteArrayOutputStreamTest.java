@@ -0,0 +1,34 @@
+package com.project.trainingdiary.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("풀에서 재사용하는 출력 스트림")
+class PooledByteArrayOutputStreamTest {
+
+  @Test
+  @DisplayName("내부 버퍼가 더 커도 쓴 만큼만 읽음")
+  void readOnlyWrittenBytes() throws IOException {
+    PooledByteArrayOutputStream buffer = new PooledByteArrayOutputStream(16);
+    buffer.write(new byte[]{1, 2, 3, 4, 5});
+
+    assertEquals(16, buffer.capacity());
+    assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, buffer.toInputStream().readAllBytes());
+  }
+
+  @Test
+  @DisplayName("reset 후에는 새로 쓴 내용만 읽음")
+  void readOnlyBytesWrittenAfterReset() throws IOException {
+    PooledByteArrayOutputStream buffer = new PooledByteArrayOutputStream(16);
+    buffer.write(new byte[]{1, 2, 3, 4, 5});
+    buffer.reset();
+    buffer.write(new byte[]{9, 8});
+
+    assertEquals(16, buffer.capacity());
+    assertArrayEquals(new byte[]{9, 8}, buffer.toInputStream().readAllBytes());
+  }
+}